@@ -2,8 +2,10 @@ package com.festivo;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class FestivoApplication {
   public static void main(String[] args) {
     SpringApplication.run(FestivoApplication.class, args);
@@ -3,6 +3,7 @@ package com.festivo.admin;
 import com.festivo.admin.dto.AdminBookingSummary;
 import com.festivo.admin.dto.PagedResponse;
 import com.festivo.bookings.Booking;
+import com.festivo.bookings.BookingChangedEvent;
 import com.festivo.bookings.BookingRepository;
 import com.festivo.bookings.BookingSpecifications;
 import com.festivo.bookings.BookingStatus;
@@ -10,6 +11,7 @@ import com.festivo.common.exception.ResourceNotFoundException;
 import java.time.OffsetDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -23,6 +25,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class AdminBookingService {
   private final BookingRepository bookingRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional(readOnly = true)
   public PagedResponse<AdminBookingSummary> search(
@@ -55,6 +58,7 @@ public class AdminBookingService {
             .findById(bookingId)
             .orElseThrow(() -> new ResourceNotFoundException("Booking not found"));
     booking.setStatus(BookingStatus.CANCELLED);
+    eventPublisher.publishEvent(BookingChangedEvent.of(booking));
     return toSummary(booking);
   }
 
@@ -1,15 +1,21 @@
 package com.festivo.admin;
 
+import com.festivo.common.cache.CacheRegions;
 import com.festivo.common.model.AuditableEntity;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SETTINGS)
 @Table(name = "system_settings")
 public class SystemSettings extends AuditableEntity {
   @Column(nullable = false)
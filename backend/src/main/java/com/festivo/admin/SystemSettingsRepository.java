@@ -1,9 +1,12 @@
 package com.festivo.admin;
 
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface SystemSettingsRepository extends JpaRepository<SystemSettings, Long> {
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
   Optional<SystemSettings> findTopByOrderByIdAsc();
 }
-
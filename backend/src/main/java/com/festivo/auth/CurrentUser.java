@@ -19,4 +19,8 @@ public final class CurrentUser {
   public static String subject() {
     return get().getName();
   }
+
+  public static boolean hasAuthority(String authority) {
+    return authorities().stream().anyMatch(granted -> authority.equals(granted.getAuthority()));
+  }
 }
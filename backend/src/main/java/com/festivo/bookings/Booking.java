@@ -1,6 +1,8 @@
 package com.festivo.bookings;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.festivo.common.model.AuditableEntity;
+import com.festivo.common.model.ScopedEntity;
 import com.festivo.events.Event;
 import com.festivo.vendors.ServiceOffering;
 import com.festivo.vendors.Vendor;
@@ -9,11 +11,15 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import lombok.Getter;
 import lombok.Setter;
@@ -26,8 +32,12 @@ import lombok.Setter;
     uniqueConstraints =
         @UniqueConstraint(
             name = "uk_booking_vendor_slot",
-            columnNames = {"vendor_id", "start_time", "end_time"}))
-public class Booking extends AuditableEntity {
+            columnNames = {"vendor_id", "start_time", "end_time", "slot_release"}),
+    indexes = {
+      @Index(name = "idx_booking_hold", columnList = "status, hold_expires_at"),
+      @Index(name = "idx_booking_status_created", columnList = "status, created_at, id")
+    })
+public class Booking extends AuditableEntity implements ScopedEntity {
   @ManyToOne(fetch = FetchType.EAGER)
   @JoinColumn(name = "vendor_id")
   private Vendor vendor;
@@ -50,6 +60,18 @@ public class Booking extends AuditableEntity {
   @Column(nullable = false)
   private BookingStatus status = BookingStatus.PENDING;
 
+  /** End of the payment window while {@link BookingStatus#HELD}. */
+  @Column(name = "hold_expires_at")
+  private Instant holdExpiresAt;
+
+  /**
+   * Zero while the booking occupies its slot and the booking's own id once it no longer does, so
+   * the unique slot key rejects duplicate live bookings but lets a freed slot be booked again.
+   */
+  @JsonIgnore
+  @Column(name = "slot_release", nullable = false)
+  private long slotRelease;
+
   @Column(precision = 10, scale = 2, nullable = false)
   private BigDecimal totalAmount;
 
@@ -64,4 +86,15 @@ public class Booking extends AuditableEntity {
 
   @Column(nullable = false)
   private String timezone;
+
+  @PrePersist
+  @PreUpdate
+  protected void onStatusChange() {
+    slotRelease = status.occupiesSlot() || getId() == null ? 0 : getId();
+  }
+
+  @Override
+  public Long scopeId() {
+    return vendor != null ? vendor.getId() : null;
+  }
 }
@@ -0,0 +1,125 @@
+package com.festivo.bookings;
+
+import com.festivo.common.exception.ConflictException;
+import com.festivo.common.lock.ClusterLockProvider;
+import com.festivo.common.lock.KeyedLocks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Serializes booking admission per vendor, so the conflict check and the insert cannot interleave
+ * with another booking of the same vendor. A per-vendor lock on this node is taken before the
+ * transaction starts, so waiters queue without pinning a pooled connection. The cluster lock is
+ * then taken inside the transaction and held until it commits. Different vendors never share a
+ * lock.
+ *
+ * <p>Wait times are published as {@code booking.admission.wait} and timeouts as {@code
+ * booking.admission.timeouts}, both tagged {@code lock=local} or {@code lock=cluster}.
+ */
+@Component
+public class BookingAdmission {
+  private final KeyedLocks<Long> localLocks = new KeyedLocks<>();
+  private final ClusterLockProvider clusterLocks;
+  private final TransactionTemplate transactionTemplate;
+  private final MeterRegistry meterRegistry;
+  private final Duration timeout;
+
+  public BookingAdmission(
+      ClusterLockProvider clusterLocks,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${festivo.bookings.admission-timeout}") Duration timeout) {
+    this.clusterLocks = clusterLocks;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.meterRegistry = meterRegistry;
+    this.timeout = timeout;
+  }
+
+  /** Runs {@code action} in a transaction while holding the vendor's admission lock. */
+  public <T> T admit(Long vendorId, Supplier<T> action) {
+    return admitAll(List.of(vendorId), action);
+  }
+
+  /**
+   * Runs {@code action} in one transaction while holding the admission locks of all {@code
+   * vendorIds}. Locks are taken in ascending vendor id, so requests sharing vendors cannot deadlock.
+   */
+  public <T> T admitAll(Collection<Long> vendorIds, Supplier<T> action) {
+    List<Long> ordered = vendorIds.stream().distinct().sorted().toList();
+    List<Long> held = new ArrayList<>(ordered.size());
+    try {
+      for (Long vendorId : ordered) {
+        await("local", () -> localLocks.tryLock(vendorId, timeout));
+        held.add(vendorId);
+      }
+      return transactionTemplate.execute(
+          status -> {
+            for (Long vendorId : ordered) {
+              await("cluster", () -> clusterLocks.lockForTransaction(lockName(vendorId), timeout));
+            }
+            return action.get();
+          });
+    } finally {
+      held.forEach(localLocks::unlock);
+    }
+  }
+
+  /**
+   * Takes the admission locks of whichever {@code vendorIds} are free right now, without waiting,
+   * and runs {@code action} with the admitted vendors in one transaction. Busy vendors are left out
+   * for the caller to retry later, so one contended vendor never holds up the others.
+   */
+  public <T> T admitAvailable(Collection<Long> vendorIds, Function<Set<Long>, T> action) {
+    List<Long> held = new ArrayList<>();
+    try {
+      for (Long vendorId : vendorIds.stream().distinct().sorted().toList()) {
+        if (localLocks.tryLock(vendorId, Duration.ZERO)) {
+          held.add(vendorId);
+        }
+      }
+      return transactionTemplate.execute(
+          status -> {
+            Set<Long> admitted = new HashSet<>();
+            for (Long vendorId : held) {
+              if (clusterLocks.lockForTransaction(lockName(vendorId), Duration.ZERO)) {
+                admitted.add(vendorId);
+              }
+            }
+            return action.apply(admitted);
+          });
+    } finally {
+      held.forEach(localLocks::unlock);
+    }
+  }
+
+  private static String lockName(Long vendorId) {
+    return "festivo:booking-admission:" + vendorId;
+  }
+
+  private void await(String lock, BooleanSupplier acquire) {
+    long started = System.nanoTime();
+    boolean acquired = acquire.getAsBoolean();
+    Timer.builder("booking.admission.wait")
+        .tag("lock", lock)
+        .register(meterRegistry)
+        .record(Duration.ofNanos(System.nanoTime() - started));
+    if (!acquired) {
+      Counter.builder("booking.admission.timeouts").tag("lock", lock).register(meterRegistry).increment();
+      throw new ConflictException("Vendor is busy with another booking, please retry");
+    }
+  }
+}
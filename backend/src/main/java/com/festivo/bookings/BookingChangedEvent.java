@@ -0,0 +1,28 @@
+package com.festivo.bookings;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+
+public record BookingChangedEvent(
+    Long bookingId,
+    Long vendorId,
+    OffsetDateTime startTime,
+    OffsetDateTime endTime,
+    BookingStatus status,
+    Instant holdExpiresAt) {
+
+  public static BookingChangedEvent of(Booking booking) {
+    return new BookingChangedEvent(
+        booking.getId(),
+        booking.getVendor() != null ? booking.getVendor().getId() : null,
+        booking.getStartTime(),
+        booking.getEndTime(),
+        booking.getStatus(),
+        booking.getHoldExpiresAt());
+  }
+
+  /** A booking whose row is gone, reported as cancelled so that listeners release its slot. */
+  public static BookingChangedEvent removed(Long bookingId, Long vendorId) {
+    return new BookingChangedEvent(bookingId, vendorId, null, null, BookingStatus.CANCELLED, null);
+  }
+}
@@ -0,0 +1,49 @@
+package com.festivo.bookings;
+
+import com.festivo.common.cluster.EntityChange;
+import com.festivo.common.cluster.EntityChangeSubscriber;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Replays bookings changed on other nodes as local {@link BookingChangedEvent}s, so the interval
+ * and availability indexes on this node see them. The rows are re-read because the change only
+ * carries the id. A row that is gone by then is replayed as a removal under the vendor its change
+ * was scoped to, so its slot does not linger in the local indexes.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingClusterBridge implements EntityChangeSubscriber {
+  private final BookingRepository bookingRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Override
+  public Set<Class<?>> entityTypes() {
+    return Set.of(Booking.class);
+  }
+
+  @Override
+  public void onRemoteChanges(List<EntityChange> changes) {
+    Map<Long, Long> vendorIds = new HashMap<>();
+    for (EntityChange change : changes) {
+      if (change.scopeId() != null || !vendorIds.containsKey(change.entityId())) {
+        vendorIds.put(change.entityId(), change.scopeId());
+      }
+    }
+    for (Booking booking : bookingRepository.findAllById(List.copyOf(vendorIds.keySet()))) {
+      vendorIds.remove(booking.getId());
+      eventPublisher.publishEvent(BookingChangedEvent.of(booking));
+    }
+    vendorIds.forEach(
+        (bookingId, vendorId) -> {
+          if (vendorId != null) {
+            eventPublisher.publishEvent(BookingChangedEvent.removed(bookingId, vendorId));
+          }
+        });
+  }
+}
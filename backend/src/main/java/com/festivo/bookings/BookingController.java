@@ -1,14 +1,19 @@
 package com.festivo.bookings;
 
 import com.festivo.common.security.Roles;
+import com.festivo.common.web.ConditionalGet;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -17,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -40,16 +46,24 @@ public class BookingController {
         request.timezone());
   }
 
+  @PostMapping("/package")
+  @PreAuthorize("hasAuthority('" + Roles.CUSTOMER + "')")
+  public List<Booking> createPackage(@Valid @RequestBody PackageBookingRequest request) {
+    return bookingService.createPackage(request.eventId(), request.items(), request.currency(), request.timezone());
+  }
+
   @GetMapping("/event/{eventId}")
   @PreAuthorize("hasAnyAuthority('" + Roles.CUSTOMER + "','" + Roles.ADMIN + "')")
-  public List<Booking> event(@PathVariable Long eventId) {
-    return bookingService.forEvent(eventId);
+  public ResponseEntity<List<Booking>> event(@PathVariable Long eventId, WebRequest request) {
+    return ConditionalGet.respond(
+        request, bookingService.eventChangeStamp(eventId), () -> bookingService.forEvent(eventId));
   }
 
   @GetMapping("/vendor/{vendorId}")
   @PreAuthorize("hasAnyAuthority('" + Roles.VENDOR + "','" + Roles.ADMIN + "')")
-  public List<Booking> vendor(@PathVariable Long vendorId) {
-    return bookingService.forVendor(vendorId);
+  public ResponseEntity<List<Booking>> vendor(@PathVariable Long vendorId, WebRequest request) {
+    return ConditionalGet.respond(
+        request, bookingService.vendorChangeStamp(vendorId), () -> bookingService.forVendor(vendorId));
   }
 
   @PostMapping("/{id}/confirm")
@@ -73,6 +87,13 @@ public class BookingController {
     return Map.of("available", available);
   }
 
+  @PostMapping("/availability/bulk")
+  public List<VendorAvailability> bulkAvailability(@Valid @RequestBody BulkAvailabilityRequest request) {
+    return bookingService.availability(request.vendorIds(), request.windows()).entrySet().stream()
+        .map(entry -> new VendorAvailability(entry.getKey(), entry.getValue()))
+        .toList();
+  }
+
   public record BookingRequest(
       @NotNull Long vendorId,
       @NotNull Long serviceId,
@@ -84,4 +105,16 @@ public class BookingController {
       @NotNull String currency,
       String notes,
       @NotNull String timezone) {}
+
+  public record PackageBookingRequest(
+      @NotNull Long eventId,
+      @NotNull String currency,
+      @NotNull String timezone,
+      @NotEmpty @Size(max = 20) List<@Valid @NotNull PackageItem> items) {}
+
+  public record BulkAvailabilityRequest(
+      @NotEmpty @Size(max = 100) Set<@NotNull Long> vendorIds,
+      @NotEmpty @Size(max = 50) List<@Valid @NotNull TimeWindow> windows) {}
+
+  public record VendorAvailability(Long vendorId, List<Boolean> available) {}
 }
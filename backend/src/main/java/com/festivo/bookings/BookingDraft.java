@@ -0,0 +1,17 @@
+package com.festivo.bookings;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/** A booking request waiting in the {@link BookingWritePipeline}. */
+record BookingDraft(
+    Long vendorId,
+    Long serviceId,
+    Long eventId,
+    OffsetDateTime start,
+    OffsetDateTime end,
+    BigDecimal total,
+    BigDecimal deposit,
+    String currency,
+    String notes,
+    String timezone) {}
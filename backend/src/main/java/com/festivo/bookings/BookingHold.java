@@ -0,0 +1,5 @@
+package com.festivo.bookings;
+
+import java.time.Instant;
+
+public record BookingHold(Long bookingId, Instant expiresAt) {}
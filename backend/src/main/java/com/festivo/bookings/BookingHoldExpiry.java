@@ -0,0 +1,100 @@
+package com.festivo.bookings;
+
+import com.festivo.common.cluster.EntityChangeBus;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Expires {@link BookingStatus#HELD} bookings whose payment window has passed. Holds live in a
+ * {@link HashedTimerWheel} fed from {@link BookingChangedEvent}s, including holds placed on other
+ * nodes, and from the table on startup. Each tick expires everything that came due with one
+ * batched {@code UPDATE} guarded by status, so every node may run it and a hold paid at the last
+ * moment is never expired. Expiry is then published as booking events, which frees the slot in
+ * the interval and availability indexes, and reported to the {@link EntityChangeBus} since the bulk
+ * update skips the entity callbacks that would tell other nodes.
+ */
+@Slf4j
+@Component
+public class BookingHoldExpiry {
+  private static final int WHEEL_SIZE = 1024;
+
+  private final BookingRepository bookingRepository;
+  private final EntityChangeBus changeBus;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final HashedTimerWheel<Long> wheel;
+
+  public BookingHoldExpiry(
+      BookingRepository bookingRepository,
+      EntityChangeBus changeBus,
+      ApplicationEventPublisher eventPublisher,
+      PlatformTransactionManager transactionManager,
+      @Value("${festivo.bookings.hold-tick}") Duration tick) {
+    this.bookingRepository = bookingRepository;
+    this.changeBus = changeBus;
+    this.eventPublisher = eventPublisher;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.wheel = new HashedTimerWheel<>(tick.toMillis(), WHEEL_SIZE, System.currentTimeMillis());
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadHolds() {
+    List<BookingHold> holds = bookingRepository.findHolds();
+    synchronized (wheel) {
+      holds.forEach(hold -> wheel.schedule(hold.bookingId(), hold.expiresAt().toEpochMilli()));
+    }
+    log.info("Tracking {} booking holds", holds.size());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onBookingChanged(BookingChangedEvent event) {
+    if (event.bookingId() == null) {
+      return;
+    }
+    synchronized (wheel) {
+      if (event.status() == BookingStatus.HELD && event.holdExpiresAt() != null) {
+        wheel.schedule(event.bookingId(), event.holdExpiresAt().toEpochMilli());
+      } else {
+        wheel.cancel(event.bookingId());
+      }
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${festivo.bookings.hold-tick}")
+  public void tick() {
+    Instant now = Instant.now();
+    List<Long> due;
+    synchronized (wheel) {
+      due = wheel.advance(now.toEpochMilli());
+    }
+    if (due.isEmpty()) {
+      return;
+    }
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            int expired = bookingRepository.expireHolds(due, now, BookingStatus.HELD, BookingStatus.EXPIRED);
+            List<Booking> bookings = bookingRepository.findByIdInAndStatus(due, BookingStatus.EXPIRED);
+            bookings.forEach(booking -> eventPublisher.publishEvent(BookingChangedEvent.of(booking)));
+            changeBus.recordBulkUpdate(Booking.class, bookings.stream().map(Booking::getId).toList(), now);
+            log.debug("Expired {} of {} due booking holds", expired, due.size());
+          });
+    } catch (RuntimeException ex) {
+      synchronized (wheel) {
+        due.forEach(bookingId -> wheel.schedule(bookingId, now.toEpochMilli()));
+      }
+      throw ex;
+    }
+  }
+}
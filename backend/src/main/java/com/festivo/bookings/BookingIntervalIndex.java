@@ -0,0 +1,178 @@
+package com.festivo.bookings;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Per-vendor sorted interval arrays over non-cancelled bookings. Each vendor is loaded from the
+ * bookings table on first use and kept current from {@link BookingChangedEvent}s after commit.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingIntervalIndex {
+  private final BookingRepository bookingRepository;
+  private final ConcurrentMap<Long, VendorIntervals> vendors = new ConcurrentHashMap<>();
+  private final AtomicLong generation = new AtomicLong();
+
+  /**
+   * Loads every vendor that is not indexed yet with a single query. Results are discarded if a
+   * booking changed while they were read; those vendors then fall back to lazy per-vendor loading.
+   */
+  public void preload(Collection<Long> vendorIds) {
+    List<Long> missing = vendorIds.stream().filter(id -> !vendors.containsKey(id)).distinct().toList();
+    if (missing.isEmpty()) {
+      return;
+    }
+    long observed = generation.get();
+    Map<Long, List<BookingSlot>> slots =
+        bookingRepository.findActiveSlotsByVendorIdIn(missing).stream()
+            .collect(Collectors.groupingBy(BookingSlot::vendorId));
+    for (Long vendorId : missing) {
+      vendors.computeIfAbsent(
+          vendorId,
+          id ->
+              generation.get() == observed
+                  ? VendorIntervals.of(slots.getOrDefault(id, List.of()))
+                  : null);
+    }
+  }
+
+  public boolean overlaps(Long vendorId, OffsetDateTime start, OffsetDateTime end) {
+    return intervals(vendorId).overlaps(toMillis(start), toMillis(end));
+  }
+
+  public void evict(Long vendorId) {
+    vendors.remove(vendorId);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onBookingChanged(BookingChangedEvent event) {
+    if (event.vendorId() == null || event.bookingId() == null) {
+      return;
+    }
+    generation.incrementAndGet();
+    vendors.computeIfPresent(
+        event.vendorId(),
+        (id, current) ->
+            !event.status().occupiesSlot()
+                ? current.without(event.bookingId())
+                : current.with(event.bookingId(), toMillis(event.startTime()), toMillis(event.endTime())));
+  }
+
+  private VendorIntervals intervals(Long vendorId) {
+    return vendors.computeIfAbsent(
+        vendorId, id -> VendorIntervals.of(bookingRepository.findActiveSlotsByVendorId(id)));
+  }
+
+  private static long toMillis(OffsetDateTime time) {
+    return time.toInstant().toEpochMilli();
+  }
+
+  /**
+   * Intervals sorted by start with a running maximum of end times, so an overlap query is one
+   * binary search: among intervals starting before {@code end}, does any finish after {@code start}?
+   */
+  static final class VendorIntervals {
+    private final long[] ids;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+
+    private VendorIntervals(long[] ids, long[] starts, long[] ends) {
+      this.ids = ids;
+      this.starts = starts;
+      this.ends = ends;
+      this.maxEnds = new long[ends.length];
+      long max = Long.MIN_VALUE;
+      for (int i = 0; i < ends.length; i++) {
+        max = Math.max(max, ends[i]);
+        maxEnds[i] = max;
+      }
+    }
+
+    static VendorIntervals of(List<BookingSlot> slots) {
+      List<BookingSlot> sorted =
+          slots.stream().sorted(Comparator.comparing(BookingSlot::startTime)).toList();
+      long[] ids = new long[sorted.size()];
+      long[] starts = new long[sorted.size()];
+      long[] ends = new long[sorted.size()];
+      for (int i = 0; i < sorted.size(); i++) {
+        BookingSlot slot = sorted.get(i);
+        ids[i] = slot.id();
+        starts[i] = toMillis(slot.startTime());
+        ends[i] = toMillis(slot.endTime());
+      }
+      return new VendorIntervals(ids, starts, ends);
+    }
+
+    boolean overlaps(long start, long end) {
+      int candidates = countStartingBefore(end);
+      return candidates > 0 && maxEnds[candidates - 1] > start;
+    }
+
+    VendorIntervals with(long id, long start, long end) {
+      VendorIntervals base = without(id);
+      int position = base.countStartingBefore(start);
+      int size = base.ids.length + 1;
+      long[] nextIds = new long[size];
+      long[] nextStarts = new long[size];
+      long[] nextEnds = new long[size];
+      System.arraycopy(base.ids, 0, nextIds, 0, position);
+      System.arraycopy(base.starts, 0, nextStarts, 0, position);
+      System.arraycopy(base.ends, 0, nextEnds, 0, position);
+      nextIds[position] = id;
+      nextStarts[position] = start;
+      nextEnds[position] = end;
+      System.arraycopy(base.ids, position, nextIds, position + 1, size - position - 1);
+      System.arraycopy(base.starts, position, nextStarts, position + 1, size - position - 1);
+      System.arraycopy(base.ends, position, nextEnds, position + 1, size - position - 1);
+      return new VendorIntervals(nextIds, nextStarts, nextEnds);
+    }
+
+    VendorIntervals without(long id) {
+      int position = -1;
+      for (int i = 0; i < ids.length; i++) {
+        if (ids[i] == id) {
+          position = i;
+          break;
+        }
+      }
+      if (position < 0) {
+        return this;
+      }
+      int size = ids.length - 1;
+      long[] nextIds = Arrays.copyOf(ids, size);
+      long[] nextStarts = Arrays.copyOf(starts, size);
+      long[] nextEnds = Arrays.copyOf(ends, size);
+      System.arraycopy(ids, position + 1, nextIds, position, size - position);
+      System.arraycopy(starts, position + 1, nextStarts, position, size - position);
+      System.arraycopy(ends, position + 1, nextEnds, position, size - position);
+      return new VendorIntervals(nextIds, nextStarts, nextEnds);
+    }
+
+    private int countStartingBefore(long time) {
+      int low = 0;
+      int high = starts.length;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (starts[mid] < time) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      return low;
+    }
+  }
+}
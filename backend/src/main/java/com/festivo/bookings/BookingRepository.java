@@ -1,20 +1,137 @@
 package com.festivo.bookings;
 
+import com.festivo.common.model.ChangeStamp;
+import com.festivo.common.model.KeysetRow;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface BookingRepository extends JpaRepository<Booking, Long>, JpaSpecificationExecutor<Booking> {
   @Query(
       "SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END FROM Booking b WHERE b.vendor.id = :vendorId "
-          + "AND b.status <> 'CANCELLED' AND ((b.startTime < :end AND b.endTime > :start))")
+          + "AND b.status NOT IN ('CANCELLED', 'EXPIRED') AND ((b.startTime < :end AND b.endTime > :start))")
   boolean existsConflictingBooking(
       @Param("vendorId") Long vendorId, @Param("start") OffsetDateTime start, @Param("end") OffsetDateTime end);
 
+  @Query(
+      "SELECT new com.festivo.bookings.BookingSlot(b.id, b.vendor.id, b.startTime, b.endTime, b.status) FROM Booking b "
+          + "WHERE b.vendor.id = :vendorId AND b.status NOT IN ('CANCELLED', 'EXPIRED')")
+  List<BookingSlot> findActiveSlotsByVendorId(@Param("vendorId") Long vendorId);
+
+  @Query(
+      "SELECT new com.festivo.bookings.BookingSlot(b.id, b.vendor.id, b.startTime, b.endTime, b.status) FROM Booking b "
+          + "WHERE b.vendor.id IN :vendorIds AND b.status NOT IN ('CANCELLED', 'EXPIRED')")
+  List<BookingSlot> findActiveSlotsByVendorIdIn(@Param("vendorIds") Collection<Long> vendorIds);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT b FROM Booking b WHERE b.id = :id")
+  Optional<Booking> lockById(@Param("id") Long id);
+
+  @Query(
+      "SELECT new com.festivo.bookings.BookingHold(b.id, b.holdExpiresAt) FROM Booking b "
+          + "WHERE b.status = 'HELD' AND b.holdExpiresAt IS NOT NULL")
+  List<BookingHold> findHolds();
+
+  /** Expires the listed holds whose window has passed; rows paid or cancelled meanwhile are left alone. */
+  @Modifying
+  @Query(
+      "UPDATE Booking b SET b.status = :expired, b.slotRelease = b.id, b.updatedAt = :now "
+          + "WHERE b.id IN :ids AND b.status = :held AND b.holdExpiresAt <= :now")
+  int expireHolds(
+      @Param("ids") Collection<Long> ids,
+      @Param("now") Instant now,
+      @Param("held") BookingStatus held,
+      @Param("expired") BookingStatus expired);
+
+  List<Booking> findByIdInAndStatus(Collection<Long> ids, BookingStatus status);
+
+  @Query(
+      "SELECT new com.festivo.common.model.KeysetRow(b.id, b.createdAt) FROM Booking b "
+          + "WHERE b.status = :status AND b.createdAt < :cutoff "
+          + "AND (b.createdAt > :afterCreatedAt OR (b.createdAt = :afterCreatedAt AND b.id > :afterId)) "
+          + "ORDER BY b.createdAt, b.id")
+  List<KeysetRow> findStale(
+      @Param("status") BookingStatus status,
+      @Param("cutoff") Instant cutoff,
+      @Param("afterCreatedAt") Instant afterCreatedAt,
+      @Param("afterId") long afterId,
+      Limit limit);
+
+  @Modifying
+  @Query(
+      "UPDATE Booking b SET b.status = :expired, b.slotRelease = b.id, b.updatedAt = :now "
+          + "WHERE b.id IN :ids AND b.status = :stale")
+  int expireStale(
+      @Param("ids") Collection<Long> ids,
+      @Param("now") Instant now,
+      @Param("stale") BookingStatus stale,
+      @Param("expired") BookingStatus expired);
+
+  @Query(
+      "SELECT new com.festivo.bookings.VendorBookingCount(b.vendor.id, COUNT(b)) FROM Booking b "
+          + "WHERE b.vendor.id IN :vendorIds AND b.status IN ('CONFIRMED', 'COMPLETED') AND b.createdAt >= :since "
+          + "GROUP BY b.vendor.id")
+  List<VendorBookingCount> countConfirmedByVendorIdIn(
+      @Param("vendorIds") Collection<Long> vendorIds, @Param("since") Instant since);
+
+  @Query(
+      "SELECT new com.festivo.bookings.BookingSlot(b.id, b.vendor.id, b.startTime, b.endTime, b.status) FROM Booking b "
+          + "WHERE b.status NOT IN ('CANCELLED', 'EXPIRED') AND b.endTime > :after")
+  List<BookingSlot> findActiveSlotsEndingAfter(@Param("after") OffsetDateTime after);
+
+  @Query(
+      "SELECT new com.festivo.bookings.BookingSlot(b.id, b.vendor.id, b.startTime, b.endTime, b.status) FROM Booking b "
+          + "WHERE b.vendor.id = :vendorId AND b.status NOT IN ('CANCELLED', 'EXPIRED') "
+          + "AND b.startTime < :end AND b.endTime > :start ORDER BY b.startTime")
+  List<BookingSlot> findActiveSlotsInRange(
+      @Param("vendorId") Long vendorId, @Param("start") OffsetDateTime start, @Param("end") OffsetDateTime end);
+
+  @Query(
+      "SELECT new com.festivo.bookings.BookingSlot(b.id, b.vendor.id, b.startTime, b.endTime, b.status) FROM Booking b "
+          + "WHERE b.vendor.id = :vendorId AND b.startTime < :end AND b.endTime > :start ORDER BY b.startTime")
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+  Stream<BookingSlot> streamSlotsInRange(
+      @Param("vendorId") Long vendorId, @Param("start") OffsetDateTime start, @Param("end") OffsetDateTime end);
+
   List<Booking> findByEventId(Long eventId);
 
   List<Booking> findByVendorId(Long vendorId);
+
+  /** Also covers the vendor and service embedded in each serialized booking. */
+  @Query(
+      "SELECT new com.festivo.common.model.ChangeStamp(MAX(GREATEST(b.updatedAt, "
+          + "COALESCE(v.updatedAt, b.updatedAt), COALESCE(s.updatedAt, b.updatedAt))), COUNT(b)) "
+          + "FROM Booking b LEFT JOIN b.vendor v LEFT JOIN b.service s WHERE b.event.id = :eventId")
+  ChangeStamp changeStampByEventId(@Param("eventId") Long eventId);
+
+  @Query(
+      "SELECT new com.festivo.common.model.ChangeStamp(MAX(GREATEST(b.updatedAt, "
+          + "COALESCE(v.updatedAt, b.updatedAt), COALESCE(s.updatedAt, b.updatedAt))), COUNT(b)) "
+          + "FROM Booking b LEFT JOIN b.vendor v LEFT JOIN b.service s WHERE b.vendor.id = :vendorId")
+  ChangeStamp changeStampByVendorId(@Param("vendorId") Long vendorId);
+
+  @Query(
+      "SELECT b FROM Booking b WHERE b.event.id = :eventId "
+          + "AND (b.updatedAt > :since OR (b.updatedAt = :since AND b.id > :afterId)) AND b.updatedAt <= :until "
+          + "ORDER BY b.updatedAt, b.id")
+  List<Booking> findEventChangesSince(
+      @Param("eventId") Long eventId,
+      @Param("since") Instant since,
+      @Param("afterId") long afterId,
+      @Param("until") Instant until,
+      Limit limit);
 }
@@ -2,6 +2,7 @@ package com.festivo.bookings;
 
 import com.festivo.common.exception.ConflictException;
 import com.festivo.common.exception.ResourceNotFoundException;
+import com.festivo.common.model.ChangeStamp;
 import com.festivo.events.Event;
 import com.festivo.events.EventRepository;
 import com.festivo.payments.PaymentService;
@@ -11,21 +12,45 @@ import com.festivo.vendors.Vendor;
 import com.festivo.vendors.VendorRepository;
 import jakarta.transaction.Transactional;
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class BookingService {
+  @Value("${festivo.bookings.hold-ttl}")
+  private Duration holdTtl;
+
   private final BookingRepository bookingRepository;
   private final VendorRepository vendorRepository;
   private final ServiceOfferingRepository serviceOfferingRepository;
   private final EventRepository eventRepository;
   private final PaymentService paymentService;
+  private final BookingIntervalIndex intervalIndex;
+  private final BookingAdmission admission;
+  private final BookingWritePipeline writePipeline;
+  private final ApplicationEventPublisher eventPublisher;
 
+  /**
+   * Admits a booking under the vendor's admission lock, so two overlapping requests for the same
+   * vendor cannot both pass the conflict check. The transaction is started inside the lock. With
+   * group commit enabled the request goes through the {@link BookingWritePipeline} instead.
+   */
+  @Transactional(Transactional.TxType.SUPPORTS)
   public Booking create(
       Long vendorId,
       Long serviceId,
@@ -37,7 +62,28 @@ public class BookingService {
       String currency,
       String notes,
       String timezone) {
-    if (bookingRepository.existsConflictingBooking(vendorId, start, end)) {
+    if (writePipeline.enabled()) {
+      return writePipeline.submit(
+          new BookingDraft(vendorId, serviceId, eventId, start, end, total, deposit, currency, notes, timezone));
+    }
+    return admission.admit(
+        vendorId,
+        () -> insert(vendorId, serviceId, eventId, start, end, total, deposit, currency, notes, timezone));
+  }
+
+  private Booking insert(
+      Long vendorId,
+      Long serviceId,
+      Long eventId,
+      OffsetDateTime start,
+      OffsetDateTime end,
+      BigDecimal total,
+      BigDecimal deposit,
+      String currency,
+      String notes,
+      String timezone) {
+    if (intervalIndex.overlaps(vendorId, start, end)
+        || bookingRepository.existsConflictingBooking(vendorId, start, end)) {
       throw new ConflictException("Vendor is not available for the selected slot");
     }
     if (deposit != null && deposit.compareTo(total) > 0) {
@@ -56,32 +102,160 @@ public class BookingService {
             .findById(eventId)
             .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
 
+    Instant holdExpiresAt = Instant.now().plus(holdTtl);
+    Booking booking =
+        hold(vendor, offering, event, start, end, total, deposit, currency, notes, timezone, holdExpiresAt);
+    Booking saved = bookingRepository.save(booking);
+    paymentService.ensurePaymentDraft(saved);
+    eventPublisher.publishEvent(BookingChangedEvent.of(saved));
+    return saved;
+  }
+
+  /**
+   * Books every item of an event package in one transaction, holding the admission locks of all its
+   * vendors. Under those locks one overlap query, matching each item's own slot, is authoritative
+   * for every item, and vendors and offerings are loaded with one {@code IN} query each. Either
+   * every booking and payment draft is inserted or none is. Booking ids are IDENTITY columns, so
+   * Hibernate inserts the rows one statement at a time.
+   */
+  @Transactional(Transactional.TxType.SUPPORTS)
+  public List<Booking> createPackage(Long eventId, List<PackageItem> items, String currency, String timezone) {
+    return admission.admitAll(
+        items.stream().map(PackageItem::vendorId).toList(),
+        () -> insertPackage(eventId, items, currency, timezone));
+  }
+
+  private List<Booking> insertPackage(Long eventId, List<PackageItem> items, String currency, String timezone) {
+    for (int i = 0; i < items.size(); i++) {
+      PackageItem item = items.get(i);
+      if (item.depositAmount() != null && item.depositAmount().compareTo(item.totalAmount()) > 0) {
+        throw new ConflictException("Deposit cannot exceed total amount");
+      }
+      for (PackageItem other : items.subList(0, i)) {
+        if (other.vendorId().equals(item.vendorId())
+            && overlaps(other.startTime(), other.endTime(), item.startTime(), item.endTime())) {
+          throw new ConflictException("Package books vendor " + item.vendorId() + " twice for overlapping slots");
+        }
+      }
+    }
+    Set<Long> vendorIds = items.stream().map(PackageItem::vendorId).collect(Collectors.toSet());
+    List<Booking> taken =
+        bookingRepository.findAll(
+            BookingSpecifications.activeOverlappingAny(
+                items.stream()
+                    .collect(
+                        Collectors.groupingBy(
+                            PackageItem::vendorId,
+                            Collectors.mapping(
+                                item -> new TimeWindow(item.startTime(), item.endTime()), Collectors.toList())))));
+    for (PackageItem item : items) {
+      if (taken.stream()
+          .anyMatch(
+              booking ->
+                  booking.getVendor().getId().equals(item.vendorId())
+                      && overlaps(booking.getStartTime(), booking.getEndTime(), item.startTime(), item.endTime()))) {
+        throw new ConflictException("Vendor " + item.vendorId() + " is not available for the selected slot");
+      }
+    }
+
+    Event event =
+        eventRepository
+            .findById(eventId)
+            .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
+    Map<Long, Vendor> vendors =
+        vendorRepository.findAllById(vendorIds).stream()
+            .collect(Collectors.toMap(Vendor::getId, Function.identity()));
+    Map<Long, ServiceOffering> offerings =
+        serviceOfferingRepository.findAllById(items.stream().map(PackageItem::serviceId).distinct().toList()).stream()
+            .collect(Collectors.toMap(ServiceOffering::getId, Function.identity()));
+    Instant holdExpiresAt = Instant.now().plus(holdTtl);
+    List<Booking> bookings = new ArrayList<>(items.size());
+    for (PackageItem item : items) {
+      Vendor vendor = vendors.get(item.vendorId());
+      if (vendor == null) {
+        throw new ResourceNotFoundException("Vendor not found");
+      }
+      ServiceOffering offering = offerings.get(item.serviceId());
+      if (offering == null) {
+        throw new ResourceNotFoundException("Service not found");
+      }
+      bookings.add(
+          hold(
+              vendor,
+              offering,
+              event,
+              item.startTime(),
+              item.endTime(),
+              item.totalAmount(),
+              item.depositAmount(),
+              currency,
+              item.notes(),
+              timezone,
+              holdExpiresAt));
+    }
+    List<Booking> saved = bookingRepository.saveAll(bookings);
+    paymentService.createPaymentDrafts(saved);
+    saved.forEach(booking -> eventPublisher.publishEvent(BookingChangedEvent.of(booking)));
+    return saved;
+  }
+
+  /** A new {@link BookingStatus#HELD} booking; shared with the {@link BookingWritePipeline}. */
+  static Booking hold(
+      Vendor vendor,
+      ServiceOffering offering,
+      Event event,
+      OffsetDateTime start,
+      OffsetDateTime end,
+      BigDecimal total,
+      BigDecimal deposit,
+      String currency,
+      String notes,
+      String timezone,
+      Instant holdExpiresAt) {
     Booking booking = new Booking();
     booking.setVendor(vendor);
     booking.setService(offering);
     booking.setEvent(event);
     booking.setStartTime(start);
     booking.setEndTime(end);
-    booking.setStatus(BookingStatus.PENDING);
+    booking.setStatus(BookingStatus.HELD);
+    booking.setHoldExpiresAt(holdExpiresAt);
     booking.setTotalAmount(total);
     booking.setDepositAmount(deposit);
     booking.setCurrency(currency);
     booking.setNotes(notes);
     booking.setTimezone(timezone);
-    Booking saved = bookingRepository.save(booking);
-    paymentService.ensurePaymentDraft(saved);
-    return saved;
+    return booking;
+  }
+
+  static boolean overlaps(
+      OffsetDateTime start, OffsetDateTime end, OffsetDateTime otherStart, OffsetDateTime otherEnd) {
+    return start.isBefore(otherEnd) && end.isAfter(otherStart);
   }
 
+  /**
+   * Confirms a held or pending booking. The row is locked so hold expiry cannot interleave. Expired
+   * and cancelled bookings have given up their slot and are never taken back here; a late payment
+   * reinstates an expired hold through {@code PaymentService} instead.
+   */
   public Booking confirm(Long bookingId) {
-    Booking booking = get(bookingId);
+    Booking booking =
+        bookingRepository
+            .lockById(bookingId)
+            .orElseThrow(() -> new ResourceNotFoundException("Booking not found"));
+    if (booking.getStatus() != BookingStatus.HELD && booking.getStatus() != BookingStatus.PENDING) {
+      throw new ConflictException("Only held or pending bookings can be confirmed");
+    }
     booking.setStatus(BookingStatus.CONFIRMED);
+    booking.setHoldExpiresAt(null);
+    eventPublisher.publishEvent(BookingChangedEvent.of(booking));
     return booking;
   }
 
   public Booking cancel(Long bookingId) {
     Booking booking = get(bookingId);
     booking.setStatus(BookingStatus.CANCELLED);
+    eventPublisher.publishEvent(BookingChangedEvent.of(booking));
     return booking;
   }
 
@@ -91,6 +265,14 @@ public class BookingService {
         .orElseThrow(() -> new ResourceNotFoundException("Booking not found"));
   }
 
+  public ChangeStamp eventChangeStamp(Long eventId) {
+    return bookingRepository.changeStampByEventId(eventId);
+  }
+
+  public ChangeStamp vendorChangeStamp(Long vendorId) {
+    return bookingRepository.changeStampByVendorId(vendorId);
+  }
+
   public List<Booking> forEvent(Long eventId) {
     return bookingRepository.findByEventId(eventId);
   }
@@ -100,6 +282,19 @@ public class BookingService {
   }
 
   public boolean hasConflictingBooking(Long vendorId, OffsetDateTime start, OffsetDateTime end) {
-    return bookingRepository.existsConflictingBooking(vendorId, start, end);
+    return intervalIndex.overlaps(vendorId, start, end);
+  }
+
+  public Map<Long, List<Boolean>> availability(Collection<Long> vendorIds, List<TimeWindow> windows) {
+    intervalIndex.preload(vendorIds);
+    Map<Long, List<Boolean>> matrix = new LinkedHashMap<>();
+    for (Long vendorId : vendorIds) {
+      matrix.put(
+          vendorId,
+          windows.stream()
+              .map(window -> !intervalIndex.overlaps(vendorId, window.start(), window.end()))
+              .toList());
+    }
+    return matrix;
   }
 }
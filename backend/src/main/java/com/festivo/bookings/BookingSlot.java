@@ -0,0 +1,6 @@
+package com.festivo.bookings;
+
+import java.time.OffsetDateTime;
+
+public record BookingSlot(
+    Long id, Long vendorId, OffsetDateTime startTime, OffsetDateTime endTime, BookingStatus status) {}
@@ -0,0 +1,50 @@
+package com.festivo.bookings;
+
+import com.festivo.common.lock.ClusterLockProvider;
+import com.festivo.common.model.SchemaMigration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Brings databases created before {@link Booking#getSlotRelease() slot release} up to date, which
+ * {@code ddl-auto: update} cannot do: rows that no longer occupy their slot get {@code slot_release
+ * = id}, and the three-column {@code uk_booking_vendor_slot} key is replaced by one that includes
+ * {@code slot_release}. Both steps are idempotent.
+ */
+@Slf4j
+@Component
+public class BookingSlotKeyMigration extends SchemaMigration {
+  private static final String KEY = "uk_booking_vendor_slot";
+
+  public BookingSlotKeyMigration(
+      JdbcTemplate jdbcTemplate, ClusterLockProvider clusterLocks, PlatformTransactionManager transactionManager) {
+    super("festivo:booking-slot-key-migration", jdbcTemplate, clusterLocks, transactionManager);
+  }
+
+  @Override
+  protected void migrate() {
+    int released =
+        jdbcTemplate.update(
+            "UPDATE bookings SET slot_release = id WHERE status IN ('CANCELLED', 'EXPIRED') AND slot_release = 0");
+    List<String> columns =
+        jdbcTemplate.queryForList(
+            "SELECT column_name FROM information_schema.statistics "
+                + "WHERE table_schema = DATABASE() AND table_name = 'bookings' AND index_name = ? "
+                + "ORDER BY seq_in_index",
+            String.class,
+            KEY);
+    if (!columns.contains("slot_release")) {
+      jdbcTemplate.execute(
+          "ALTER TABLE bookings "
+              + (columns.isEmpty() ? "" : "DROP INDEX " + KEY + ", ")
+              + "ADD CONSTRAINT " + KEY + " UNIQUE (vendor_id, start_time, end_time, slot_release)");
+      log.info("Rebuilt {} to include slot_release", KEY);
+    }
+    if (released > 0) {
+      log.info("Released the slots of {} cancelled or expired bookings", released);
+    }
+  }
+}
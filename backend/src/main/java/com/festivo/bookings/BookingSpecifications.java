@@ -1,6 +1,9 @@
 package com.festivo.bookings;
 
+import jakarta.persistence.criteria.Predicate;
 import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -36,5 +39,27 @@ public final class BookingSpecifications {
       return cb.lessThanOrEqualTo(root.get("endTime"), end);
     };
   }
-}
 
+  /**
+   * Bookings still holding a slot that overlap any window of their vendor in {@code windowsByVendor},
+   * matched window by window so that windows far apart never pull in the bookings between them.
+   */
+  public static Specification<Booking> activeOverlappingAny(Map<Long, List<TimeWindow>> windowsByVendor) {
+    return (root, query, cb) -> {
+      Predicate[] overlaps =
+          windowsByVendor.entrySet().stream()
+              .flatMap(
+                  entry ->
+                      entry.getValue().stream()
+                          .map(
+                              window ->
+                                  cb.and(
+                                      cb.equal(root.get("vendor").get("id"), entry.getKey()),
+                                      cb.lessThan(root.get("startTime"), window.end()),
+                                      cb.greaterThan(root.get("endTime"), window.start()))))
+              .toArray(Predicate[]::new);
+      return cb.and(
+          cb.not(root.get("status").in(BookingStatus.CANCELLED, BookingStatus.EXPIRED)), cb.or(overlaps));
+    };
+  }
+}
@@ -1,8 +1,16 @@
 package com.festivo.bookings;
 
 public enum BookingStatus {
+  /** Slot reserved while the customer pays; becomes {@link #EXPIRED} when the hold runs out. */
+  HELD,
   PENDING,
   CONFIRMED,
   CANCELLED,
-  COMPLETED
+  COMPLETED,
+  EXPIRED;
+
+  /** Whether a booking in this status keeps its vendor's slot taken. */
+  public boolean occupiesSlot() {
+    return this != CANCELLED && this != EXPIRED;
+  }
 }
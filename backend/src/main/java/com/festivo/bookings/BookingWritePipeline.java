@@ -0,0 +1,390 @@
+package com.festivo.bookings;
+
+import com.festivo.common.exception.ConflictException;
+import com.festivo.common.exception.ResourceNotFoundException;
+import com.festivo.events.Event;
+import com.festivo.events.EventRepository;
+import com.festivo.payments.PaymentService;
+import com.festivo.vendors.ServiceOffering;
+import com.festivo.vendors.ServiceOfferingRepository;
+import com.festivo.vendors.Vendor;
+import com.festivo.vendors.VendorRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Optional group commit for {@link BookingService#create}. Requests wait in a bounded queue and a
+ * single writer coalesces whatever arrives within the linger window into one transaction. The
+ * batch takes the admission locks of its vendors without waiting: requests for a vendor that is
+ * busy elsewhere are deferred to the next batch, and fail once they have waited the admission
+ * timeout, so a contended vendor never holds up unrelated ones. While only deferred requests are
+ * waiting, retries back off from the linger window up to a quarter of the admission timeout, and
+ * any new request ends the wait. Conflicts are checked against the database and the earlier
+ * requests of the same batch, so a rejected request fails only its own caller. If the batch
+ * transaction itself fails, its requests are retried one by one. Callers wait on their own future
+ * for at most twice the admission timeout; a caller whose request is already being written waits
+ * for that write instead, so a booking never commits behind a caller that was told to retry.
+ *
+ * <p>Batch sizes are published as {@code booking.group-commit.batch.size} and requests turned
+ * away by a full queue as {@code booking.group-commit.rejections}.
+ */
+@Slf4j
+@Component
+public class BookingWritePipeline {
+  private final BookingAdmission admission;
+  private final BookingRepository bookingRepository;
+  private final VendorRepository vendorRepository;
+  private final ServiceOfferingRepository serviceOfferingRepository;
+  private final EventRepository eventRepository;
+  private final PaymentService paymentService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final DistributionSummary batchSizes;
+  private final Counter rejections;
+  private final boolean enabled;
+  private final int maxBatch;
+  private final Duration linger;
+  private final Duration holdTtl;
+  private final Duration admissionTimeout;
+  private final BlockingQueue<Pending> queue;
+  private Thread writer;
+  private volatile boolean stopped;
+
+  public BookingWritePipeline(
+      BookingAdmission admission,
+      BookingRepository bookingRepository,
+      VendorRepository vendorRepository,
+      ServiceOfferingRepository serviceOfferingRepository,
+      EventRepository eventRepository,
+      PaymentService paymentService,
+      ApplicationEventPublisher eventPublisher,
+      MeterRegistry meterRegistry,
+      @Value("${festivo.bookings.group-commit.enabled}") boolean enabled,
+      @Value("${festivo.bookings.group-commit.max-batch}") int maxBatch,
+      @Value("${festivo.bookings.group-commit.linger}") Duration linger,
+      @Value("${festivo.bookings.group-commit.queue-capacity}") int queueCapacity,
+      @Value("${festivo.bookings.hold-ttl}") Duration holdTtl,
+      @Value("${festivo.bookings.admission-timeout}") Duration admissionTimeout) {
+    this.admission = admission;
+    this.bookingRepository = bookingRepository;
+    this.vendorRepository = vendorRepository;
+    this.serviceOfferingRepository = serviceOfferingRepository;
+    this.eventRepository = eventRepository;
+    this.paymentService = paymentService;
+    this.eventPublisher = eventPublisher;
+    this.batchSizes = DistributionSummary.builder("booking.group-commit.batch.size").register(meterRegistry);
+    this.rejections = Counter.builder("booking.group-commit.rejections").register(meterRegistry);
+    this.enabled = enabled;
+    this.maxBatch = maxBatch;
+    this.linger = linger;
+    this.holdTtl = holdTtl;
+    this.admissionTimeout = admissionTimeout;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+  }
+
+  @PostConstruct
+  void start() {
+    if (!enabled) {
+      return;
+    }
+    writer = new Thread(this::run, "booking-group-commit");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  @PreDestroy
+  void stop() {
+    if (writer != null) {
+      writer.interrupt();
+    }
+  }
+
+  public boolean enabled() {
+    return enabled;
+  }
+
+  /**
+   * Queues the draft and waits for the batch it lands in to commit. A caller that gives up before
+   * the writer claims its request abandons it, so the writer drops it; once claimed, the caller
+   * waits for the outcome.
+   */
+  Booking submit(BookingDraft draft) {
+    if (stopped) {
+      throw unavailable();
+    }
+    Pending pending =
+        new Pending(
+            draft,
+            new CompletableFuture<>(),
+            System.nanoTime() + admissionTimeout.toNanos(),
+            new AtomicReference<>(Stage.QUEUED));
+    if (!queue.offer(pending)) {
+      rejections.increment();
+      throw new ConflictException("Too many bookings in flight, please retry");
+    }
+    if (stopped) {
+      failQueued();
+    }
+    try {
+      return pending.result().get(admissionTimeout.multipliedBy(2).toNanos(), TimeUnit.NANOSECONDS);
+    } catch (ExecutionException ex) {
+      throw failure(ex.getCause());
+    } catch (TimeoutException ex) {
+      return giveUp(pending, new ConflictException("Booking is taking too long, please retry"));
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return giveUp(pending, unavailable());
+    }
+  }
+
+  private static Booking giveUp(Pending pending, RuntimeException error) {
+    if (pending.stage().compareAndSet(Stage.QUEUED, Stage.ABANDONED)) {
+      throw error;
+    }
+    try {
+      return pending.result().join();
+    } catch (CompletionException ex) {
+      throw failure(ex.getCause());
+    }
+  }
+
+  private static RuntimeException failure(Throwable cause) {
+    return cause instanceof RuntimeException runtime
+        ? runtime
+        : new IllegalStateException("Booking write failed", cause);
+  }
+
+  private void run() {
+    List<Pending> deferred = new ArrayList<>();
+    long lingerNanos = linger.toNanos();
+    long maxRetryNanos = Math.max(lingerNanos, admissionTimeout.toNanos() / 4);
+    long retryNanos = lingerNanos;
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        List<Pending> batch = collect(deferred, retryNanos);
+        boolean fresh = batch.size() > deferred.size();
+        batchSizes.record(batch.size());
+        try {
+          deferred = write(batch);
+        } catch (Throwable ex) {
+          log.error("Group commit of {} bookings failed", batch.size(), ex);
+          RuntimeException error = failure(ex);
+          batch.forEach(pending -> pending.result().completeExceptionally(error));
+          deferred = new ArrayList<>();
+        }
+        retryNanos = fresh ? lingerNanos : Math.min(retryNanos * 2, maxRetryNanos);
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    } finally {
+      stopped = true;
+      deferred.forEach(pending -> pending.result().completeExceptionally(unavailable()));
+      failQueued();
+    }
+  }
+
+  /**
+   * Deferred requests plus whatever arrives within the linger window, up to the batch size. With
+   * requests deferred, waits at most {@code retryNanos} for a new one before retrying them alone.
+   */
+  private List<Pending> collect(List<Pending> deferred, long retryNanos) throws InterruptedException {
+    List<Pending> batch = new ArrayList<>(deferred);
+    Pending first = deferred.isEmpty() ? queue.take() : queue.poll(retryNanos, TimeUnit.NANOSECONDS);
+    if (first == null) {
+      return batch;
+    }
+    batch.add(first);
+    long deadline = System.nanoTime() + linger.toNanos();
+    while (batch.size() < maxBatch) {
+      queue.drainTo(batch, maxBatch - batch.size());
+      long remaining = deadline - System.nanoTime();
+      if (batch.size() >= maxBatch || remaining <= 0) {
+        break;
+      }
+      Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+      if (next == null) {
+        break;
+      }
+      batch.add(next);
+    }
+    return batch;
+  }
+
+  /** Writes what it can and returns the requests whose vendors were busy. */
+  private List<Pending> write(List<Pending> batch) {
+    List<Pending> live =
+        batch.stream()
+            .filter(pending -> pending.stage().get() != Stage.ABANDONED && !pending.result().isDone())
+            .toList();
+    if (live.isEmpty()) {
+      return new ArrayList<>();
+    }
+    Map<Pending, Outcome> outcomes;
+    try {
+      outcomes =
+          admission.admitAvailable(
+              live.stream().map(pending -> pending.draft().vendorId()).toList(),
+              admitted ->
+                  insert(live.stream().filter(pending -> admitted.contains(pending.draft().vendorId())).toList()));
+    } catch (RuntimeException ex) {
+      if (live.size() == 1) {
+        live.get(0).result().completeExceptionally(ex);
+        return new ArrayList<>();
+      }
+      log.warn("Group commit of {} bookings failed, retrying them one by one", live.size(), ex);
+      List<Pending> deferred = new ArrayList<>();
+      live.forEach(pending -> deferred.addAll(write(List.of(pending))));
+      return deferred;
+    }
+    List<Pending> deferred = new ArrayList<>();
+    long now = System.nanoTime();
+    for (Pending pending : live) {
+      Outcome outcome = outcomes.get(pending);
+      if (pending.stage().get() == Stage.ABANDONED) {
+        continue;
+      } else if (outcome == null && now - pending.deadline() < 0) {
+        deferred.add(pending);
+      } else if (outcome == null) {
+        pending.result().completeExceptionally(
+            new ConflictException("Vendor is busy with another booking, please retry"));
+      } else if (outcome.error() != null) {
+        pending.result().completeExceptionally(outcome.error());
+      } else {
+        pending.result().complete(outcome.booking());
+      }
+    }
+    return deferred;
+  }
+
+  /**
+   * Runs inside the batch transaction while holding the admission locks of every vendor in {@code
+   * admitted}. Requests not yet abandoned are claimed first, so their callers wait for the commit.
+   * The overlap query, matching each request's own slot, is authoritative under those locks, so
+   * the interval index is not consulted and no vendor is loaded on its own.
+   */
+  private Map<Pending, Outcome> insert(List<Pending> admitted) {
+    Map<Pending, Outcome> outcomes = new LinkedHashMap<>();
+    List<Pending> batch = admitted.stream().filter(Pending::claim).toList();
+    if (batch.isEmpty()) {
+      return outcomes;
+    }
+    List<BookingDraft> drafts = batch.stream().map(Pending::draft).toList();
+    Set<Long> vendorIds = drafts.stream().map(BookingDraft::vendorId).collect(Collectors.toSet());
+    List<Booking> taken =
+        bookingRepository.findAll(
+            BookingSpecifications.activeOverlappingAny(
+                drafts.stream()
+                    .collect(
+                        Collectors.groupingBy(
+                            BookingDraft::vendorId,
+                            Collectors.mapping(
+                                draft -> new TimeWindow(draft.start(), draft.end()), Collectors.toList())))));
+    Map<Long, Vendor> vendors =
+        vendorRepository.findAllById(vendorIds).stream()
+            .collect(Collectors.toMap(Vendor::getId, Function.identity()));
+    Map<Long, ServiceOffering> offerings =
+        serviceOfferingRepository.findAllById(drafts.stream().map(BookingDraft::serviceId).distinct().toList()).stream()
+            .collect(Collectors.toMap(ServiceOffering::getId, Function.identity()));
+    Map<Long, Event> events =
+        eventRepository.findAllById(drafts.stream().map(BookingDraft::eventId).distinct().toList()).stream()
+            .collect(Collectors.toMap(Event::getId, Function.identity()));
+
+    Instant holdExpiresAt = Instant.now().plus(holdTtl);
+    List<Booking> accepted = new ArrayList<>();
+    for (Pending pending : batch) {
+      BookingDraft draft = pending.draft();
+      RuntimeException error = null;
+      if (Stream.concat(taken.stream(), accepted.stream())
+          .anyMatch(
+              booking ->
+                  booking.getVendor().getId().equals(draft.vendorId())
+                      && BookingService.overlaps(
+                          booking.getStartTime(), booking.getEndTime(), draft.start(), draft.end()))) {
+        error = new ConflictException("Vendor is not available for the selected slot");
+      } else if (draft.deposit() != null && draft.deposit().compareTo(draft.total()) > 0) {
+        error = new ConflictException("Deposit cannot exceed total amount");
+      } else if (!vendors.containsKey(draft.vendorId())) {
+        error = new ResourceNotFoundException("Vendor not found");
+      } else if (!offerings.containsKey(draft.serviceId())) {
+        error = new ResourceNotFoundException("Service not found");
+      } else if (!events.containsKey(draft.eventId())) {
+        error = new ResourceNotFoundException("Event not found");
+      }
+      if (error != null) {
+        outcomes.put(pending, new Outcome(null, error));
+        continue;
+      }
+      Booking booking =
+          BookingService.hold(
+              vendors.get(draft.vendorId()),
+              offerings.get(draft.serviceId()),
+              events.get(draft.eventId()),
+              draft.start(),
+              draft.end(),
+              draft.total(),
+              draft.deposit(),
+              draft.currency(),
+              draft.notes(),
+              draft.timezone(),
+              holdExpiresAt);
+      accepted.add(booking);
+      outcomes.put(pending, new Outcome(booking, null));
+    }
+    if (!accepted.isEmpty()) {
+      bookingRepository.saveAll(accepted);
+      paymentService.createPaymentDrafts(accepted);
+      accepted.forEach(booking -> eventPublisher.publishEvent(BookingChangedEvent.of(booking)));
+    }
+    return outcomes;
+  }
+
+  private void failQueued() {
+    List<Pending> abandoned = new ArrayList<>();
+    queue.drainTo(abandoned);
+    abandoned.forEach(pending -> pending.result().completeExceptionally(unavailable()));
+  }
+
+  private static ConflictException unavailable() {
+    return new ConflictException("Bookings are not being accepted right now, please retry");
+  }
+
+  private enum Stage {
+    QUEUED,
+    WRITING,
+    ABANDONED
+  }
+
+  private record Pending(
+      BookingDraft draft, CompletableFuture<Booking> result, long deadline, AtomicReference<Stage> stage) {
+    /** Whether the writer may write this request; false once its caller has abandoned it. */
+    boolean claim() {
+      return stage.compareAndSet(Stage.QUEUED, Stage.WRITING) || stage.get() == Stage.WRITING;
+    }
+  }
+
+  private record Outcome(Booking booking, RuntimeException error) {}
+}
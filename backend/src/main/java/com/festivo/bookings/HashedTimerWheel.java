@@ -0,0 +1,66 @@
+package com.festivo.bookings;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hashed timer wheel: deadlines are rounded up to a tick and hashed into one of a fixed number of
+ * buckets, so scheduling and cancelling are O(1) and a tick only visits the bucket it lands on.
+ * Deadlines more than one revolution away share a bucket with nearer ones and are skipped until
+ * their tick comes round. Not thread-safe on its own; callers synchronize.
+ */
+final class HashedTimerWheel<K> {
+  private final long tickMillis;
+  private final List<Map<K, Long>> buckets;
+  private final Map<K, Integer> bucketOf = new HashMap<>();
+  private long currentTick;
+
+  HashedTimerWheel(long tickMillis, int size, long nowMillis) {
+    this.tickMillis = tickMillis;
+    this.buckets = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      buckets.add(new HashMap<>());
+    }
+    this.currentTick = nowMillis / tickMillis;
+  }
+
+  /** Schedules or reschedules {@code key}; deadlines in the past fire on the next tick. */
+  void schedule(K key, long deadlineMillis) {
+    cancel(key);
+    long tick = Math.max(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), currentTick + 1);
+    int bucket = (int) Math.floorMod(tick, (long) buckets.size());
+    buckets.get(bucket).put(key, tick);
+    bucketOf.put(key, bucket);
+  }
+
+  void cancel(K key) {
+    Integer bucket = bucketOf.remove(key);
+    if (bucket != null) {
+      buckets.get(bucket).remove(key);
+    }
+  }
+
+  /** Moves the wheel to {@code nowMillis} and removes and returns every key that came due. */
+  List<K> advance(long nowMillis) {
+    long target = nowMillis / tickMillis;
+    List<K> due = new ArrayList<>();
+    long steps = Math.min(target - currentTick, buckets.size());
+    for (long step = 1; step <= steps; step++) {
+      Iterator<Map.Entry<K, Long>> entries =
+          buckets.get((int) Math.floorMod(currentTick + step, (long) buckets.size())).entrySet().iterator();
+      while (entries.hasNext()) {
+        Map.Entry<K, Long> entry = entries.next();
+        if (entry.getValue() <= target) {
+          due.add(entry.getKey());
+          bucketOf.remove(entry.getKey());
+          entries.remove();
+        }
+      }
+    }
+    currentTick = Math.max(currentTick, target);
+    return due;
+  }
+}
@@ -0,0 +1,15 @@
+package com.festivo.bookings;
+
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/** One vendor booked as part of an event package. */
+public record PackageItem(
+    @NotNull Long vendorId,
+    @NotNull Long serviceId,
+    @NotNull OffsetDateTime startTime,
+    @NotNull OffsetDateTime endTime,
+    @NotNull BigDecimal totalAmount,
+    BigDecimal depositAmount,
+    String notes) {}
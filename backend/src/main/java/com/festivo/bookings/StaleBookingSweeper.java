@@ -0,0 +1,143 @@
+package com.festivo.bookings;
+
+import com.festivo.common.cluster.EntityChangeBus;
+import com.festivo.common.lock.ClusterLockProvider;
+import com.festivo.common.model.KeysetRow;
+import com.festivo.payments.Payment;
+import com.festivo.payments.PaymentRepository;
+import com.festivo.payments.PaymentStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Expires {@link BookingStatus#PENDING} bookings and {@link PaymentStatus#INITIATED} payments that
+ * were abandoned. A payment draft only counts as abandoned once its booking has given up the slot
+ * or is gone, since a vendor can confirm a booking whose payment never moves past the draft.
+ *
+ * <p>Stale rows are walked in {@code (createdAt, id)} keyset order over the status indexes and
+ * expired one chunk per transaction with a batched {@code UPDATE} guarded by status, so a row
+ * confirmed or paid mid-run is left alone. The expired rows are reported to the
+ * {@link EntityChangeBus} since the bulk update skips the entity callbacks. Only the node holding
+ * the cluster lock sweeps; the others skip the run. Rows handled are logged and counted in
+ * {@code sweeper.expired}, tagged {@code table}.
+ */
+@Slf4j
+@Component
+public class StaleBookingSweeper {
+  private static final String LOCK = "festivo:stale-booking-sweeper";
+
+  private final BookingRepository bookingRepository;
+  private final PaymentRepository paymentRepository;
+  private final ClusterLockProvider clusterLocks;
+  private final EntityChangeBus changeBus;
+  private final ApplicationEventPublisher eventPublisher;
+  private final MeterRegistry meterRegistry;
+  private final TransactionTemplate leadership;
+  private final TransactionTemplate chunkTransaction;
+  private final Duration pendingTtl;
+  private final Duration paymentTtl;
+  private final int chunkSize;
+
+  public StaleBookingSweeper(
+      BookingRepository bookingRepository,
+      PaymentRepository paymentRepository,
+      ClusterLockProvider clusterLocks,
+      EntityChangeBus changeBus,
+      ApplicationEventPublisher eventPublisher,
+      MeterRegistry meterRegistry,
+      PlatformTransactionManager transactionManager,
+      @Value("${festivo.sweeper.pending-ttl}") Duration pendingTtl,
+      @Value("${festivo.sweeper.payment-ttl}") Duration paymentTtl,
+      @Value("${festivo.sweeper.chunk-size}") int chunkSize) {
+    this.bookingRepository = bookingRepository;
+    this.paymentRepository = paymentRepository;
+    this.clusterLocks = clusterLocks;
+    this.changeBus = changeBus;
+    this.eventPublisher = eventPublisher;
+    this.meterRegistry = meterRegistry;
+    this.leadership = new TransactionTemplate(transactionManager);
+    this.chunkTransaction = new TransactionTemplate(transactionManager);
+    this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.pendingTtl = pendingTtl;
+    this.paymentTtl = paymentTtl;
+    this.chunkSize = chunkSize;
+  }
+
+  @Scheduled(cron = "${festivo.sweeper.cron}", zone = "UTC")
+  public void sweep() {
+    leadership.executeWithoutResult(
+        status -> {
+          if (!clusterLocks.lockForTransaction(LOCK, Duration.ZERO)) {
+            log.debug("Stale booking sweep is running on another node");
+            return;
+          }
+          Instant now = Instant.now();
+          int bookings = sweep(now.minus(pendingTtl), this::findStaleBookings, ids -> expireBookings(ids, now));
+          int payments = sweep(now.minus(paymentTtl), this::findStalePayments, ids -> expirePayments(ids, now));
+          count("bookings", bookings);
+          count("payments", payments);
+          log.info("Swept stale rows, {} pending bookings and {} initiated payments expired", bookings, payments);
+        });
+  }
+
+  private int sweep(Instant cutoff, ChunkReader reader, ToIntFunction<List<Long>> expire) {
+    int expired = 0;
+    KeysetRow after = new KeysetRow(0L, Instant.EPOCH);
+    while (true) {
+      List<KeysetRow> chunk = reader.read(cutoff, after, Limit.of(chunkSize));
+      if (chunk.isEmpty()) {
+        return expired;
+      }
+      List<Long> ids = chunk.stream().map(KeysetRow::id).toList();
+      expired += chunkTransaction.execute(status -> expire.applyAsInt(ids));
+      if (chunk.size() < chunkSize) {
+        return expired;
+      }
+      after = chunk.get(chunk.size() - 1);
+    }
+  }
+
+  private List<KeysetRow> findStaleBookings(Instant cutoff, KeysetRow after, Limit limit) {
+    return bookingRepository.findStale(BookingStatus.PENDING, cutoff, after.createdAt(), after.id(), limit);
+  }
+
+  private List<KeysetRow> findStalePayments(Instant cutoff, KeysetRow after, Limit limit) {
+    return paymentRepository.findStale(PaymentStatus.INITIATED, cutoff, after.createdAt(), after.id(), limit);
+  }
+
+  private int expireBookings(List<Long> ids, Instant now) {
+    int expired = bookingRepository.expireStale(ids, now, BookingStatus.PENDING, BookingStatus.EXPIRED);
+    List<Booking> bookings = bookingRepository.findByIdInAndStatus(ids, BookingStatus.EXPIRED);
+    bookings.forEach(booking -> eventPublisher.publishEvent(BookingChangedEvent.of(booking)));
+    changeBus.recordBulkUpdate(Booking.class, bookings.stream().map(Booking::getId).toList(), now);
+    return expired;
+  }
+
+  private int expirePayments(List<Long> ids, Instant now) {
+    int expired = paymentRepository.expireStale(ids, now, PaymentStatus.INITIATED, PaymentStatus.EXPIRED);
+    changeBus.recordBulkUpdate(Payment.class, ids, now);
+    return expired;
+  }
+
+  private void count(String table, int expired) {
+    Counter.builder("sweeper.expired").tag("table", table).register(meterRegistry).increment(expired);
+  }
+
+  @FunctionalInterface
+  private interface ChunkReader {
+    List<KeysetRow> read(Instant cutoff, KeysetRow after, Limit limit);
+  }
+}
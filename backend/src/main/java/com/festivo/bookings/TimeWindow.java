@@ -0,0 +1,6 @@
+package com.festivo.bookings;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.OffsetDateTime;
+
+public record TimeWindow(@NotNull OffsetDateTime start, @NotNull OffsetDateTime end) {}
@@ -0,0 +1,3 @@
+package com.festivo.bookings;
+
+public record VendorBookingCount(Long vendorId, long count) {}
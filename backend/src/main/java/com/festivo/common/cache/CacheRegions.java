@@ -0,0 +1,14 @@
+package com.festivo.common.cache;
+
+import org.hibernate.cache.spi.RegionFactory;
+
+/** Names of the Hibernate second-level cache regions. */
+public final class CacheRegions {
+  public static final String VENDORS = "festivo.vendors";
+  public static final String CATEGORIES = "festivo.categories";
+  public static final String SETTINGS = "festivo.settings";
+  public static final String QUERY_RESULTS = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+  public static final String UPDATE_TIMESTAMPS = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+  private CacheRegions() {}
+}
@@ -0,0 +1,65 @@
+package com.festivo.common.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate second-level and query cache on an in-process Caffeine JCache manager. Each region has
+ * its own size bound. Entity regions expire after {@code festivo.cache.second-level.ttl}, which
+ * caps staleness on other replicas when a cross-node eviction is lost. The update-timestamps
+ * region never expires, because Hibernate relies on it to reject stale query results. The manager
+ * gets a URI of its own, since the provider's default manager is shared by every application
+ * context in the JVM and a second context could not create its regions there.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+  @Bean(destroyMethod = "close")
+  public CacheManager hibernateCacheManager(
+      @Value("${festivo.cache.second-level.ttl}") Duration ttl,
+      @Value("${festivo.cache.second-level.vendors-max-size}") long vendorsMaxSize) {
+    CacheManager cacheManager =
+        Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager(
+                URI.create("festivo-second-level-" + UUID.randomUUID()), SecondLevelCacheConfig.class.getClassLoader());
+    create(cacheManager, CacheRegions.VENDORS, vendorsMaxSize, ttl);
+    create(cacheManager, CacheRegions.CATEGORIES, 1_000, ttl);
+    create(cacheManager, CacheRegions.SETTINGS, 10, ttl);
+    create(cacheManager, CacheRegions.QUERY_RESULTS, 1_000, ttl);
+    create(cacheManager, CacheRegions.UPDATE_TIMESTAMPS, 10_000, null);
+    return cacheManager;
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer secondLevelCacheProperties(CacheManager hibernateCacheManager) {
+    return properties -> {
+      properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+      properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+      properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+      properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+      properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+    };
+  }
+
+  private static void create(CacheManager cacheManager, String region, long maxSize, Duration ttl) {
+    CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+    configuration.setMaximumSize(OptionalLong.of(maxSize));
+    if (ttl != null) {
+      configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+    }
+    configuration.setStoreByValue(false);
+    configuration.setStatisticsEnabled(true);
+    cacheManager.createCache(region, configuration);
+  }
+}
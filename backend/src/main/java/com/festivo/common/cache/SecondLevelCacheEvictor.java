@@ -0,0 +1,65 @@
+package com.festivo.common.cache;
+
+import com.festivo.common.cluster.EntityChange;
+import com.festivo.common.cluster.EntityChangeSubscriber;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops second-level cache entries for entities changed on another node, so this node does not
+ * serve them until the region TTL expires. Subscribes to every {@link Cacheable} entity. Cached
+ * queries are invalidated by Hibernate's update timestamps on local writes only, so remote changes
+ * also clear the query region.
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheEvictor implements EntityChangeSubscriber {
+  private final EntityManagerFactory entityManagerFactory;
+
+  public void evict(Class<?> entityType, Object id) {
+    entityManagerFactory.getCache().evict(entityType, id);
+    evictQueries();
+  }
+
+  /** Drops entries for rows written outside Hibernate whose columns no cached query reads. */
+  public void evictEntries(Class<?> entityType, Collection<?> ids) {
+    ids.forEach(id -> entityManagerFactory.getCache().evict(entityType, id));
+  }
+
+  public void evictAll(Class<?> entityType) {
+    entityManagerFactory.getCache().evict(entityType);
+    evictQueries();
+  }
+
+  @Override
+  public Set<Class<?>> entityTypes() {
+    return entityManagerFactory.getMetamodel().getEntities().stream()
+        .map(EntityType::getJavaType)
+        .filter(type -> type.isAnnotationPresent(Cacheable.class))
+        .collect(Collectors.toSet());
+  }
+
+  @Override
+  public void onRemoteChanges(List<EntityChange> changes) {
+    Set<Class<?>> cached = entityTypes();
+    for (EntityChange change : changes) {
+      cached.stream()
+          .filter(change::is)
+          .findFirst()
+          .ifPresent(type -> entityManagerFactory.getCache().evict(type, change.entityId()));
+    }
+    evictQueries();
+  }
+
+  private void evictQueries() {
+    entityManagerFactory.getCache().unwrap(Cache.class).evictQueryRegions();
+  }
+}
@@ -0,0 +1,70 @@
+package com.festivo.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collapses concurrent calls that share a name and key into one computation. The first caller
+ * runs the loader and later callers wait for its result or exception. Nothing is kept after the
+ * computation finishes, so a call that starts afterwards always computes fresh. Callers should not
+ * hold a transaction while they wait, since every waiter would pin a pooled connection.
+ *
+ * <p>Counts are published as {@code singleflight.calls} tagged with the call name and with {@code
+ * role=leader} or {@code role=collapsed}.
+ */
+@Component
+public class SingleFlight {
+  private final ConcurrentMap<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+  private final MeterRegistry meterRegistry;
+  private final boolean enabled;
+
+  public SingleFlight(MeterRegistry meterRegistry, @Value("${festivo.single-flight.enabled}") boolean enabled) {
+    this.meterRegistry = meterRegistry;
+    this.enabled = enabled;
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T> T execute(String name, Object key, Supplier<T> loader) {
+    if (!enabled) {
+      return loader.get();
+    }
+    FlightKey flightKey = new FlightKey(name, key);
+    CompletableFuture<Object> flight = new CompletableFuture<>();
+    CompletableFuture<Object> leader = inFlight.putIfAbsent(flightKey, flight);
+    if (leader != null) {
+      counter(name, "collapsed").increment();
+      try {
+        return (T) leader.join();
+      } catch (CompletionException ex) {
+        if (ex.getCause() instanceof RuntimeException runtime) {
+          throw runtime;
+        }
+        throw ex;
+      }
+    }
+    counter(name, "leader").increment();
+    try {
+      T value = loader.get();
+      flight.complete(value);
+      return value;
+    } catch (RuntimeException | Error ex) {
+      flight.completeExceptionally(ex);
+      throw ex;
+    } finally {
+      inFlight.remove(flightKey, flight);
+    }
+  }
+
+  private Counter counter(String name, String role) {
+    return Counter.builder("singleflight.calls").tag("name", name).tag("role", role).register(meterRegistry);
+  }
+
+  private record FlightKey(String name, Object key) {}
+}
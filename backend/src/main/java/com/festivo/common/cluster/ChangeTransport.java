@@ -0,0 +1,11 @@
+package com.festivo.common.cluster;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/** Carries committed entity changes between nodes. Receivers get every batch, including their own. */
+public interface ChangeTransport {
+  void publish(String origin, List<EntityChange> changes);
+
+  void onReceive(BiConsumer<String, List<EntityChange>> receiver);
+}
@@ -0,0 +1,34 @@
+package com.festivo.common.cluster;
+
+import com.festivo.common.model.AuditableEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/** Row of the change table that {@link DatabaseChangeTransport} writes and every node polls. */
+@Getter
+@Setter
+@Entity
+@Table(name = "cluster_changes", indexes = @Index(name = "idx_cluster_change_created", columnList = "created_at"))
+public class ClusterChange extends AuditableEntity {
+  @Column(nullable = false, length = 36)
+  private String origin;
+
+  @Column(name = "entity_type", nullable = false)
+  private String entityType;
+
+  @Column(name = "entity_id", nullable = false)
+  private Long entityId;
+
+  @Column(name = "scope_id")
+  private Long scopeId;
+
+  @Column(nullable = false)
+  private long version;
+
+  @Column(nullable = false)
+  private boolean deleted;
+}
@@ -0,0 +1,23 @@
+package com.festivo.common.cluster;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ClusterChangeRepository extends JpaRepository<ClusterChange, Long> {
+  List<ClusterChange> findByIdGreaterThanOrderByIdAsc(long afterId, Limit limit);
+
+  List<ClusterChange> findByIdGreaterThanOrIdInOrderByIdAsc(long afterId, Collection<Long> ids, Limit limit);
+
+  @Query("SELECT COALESCE(MAX(c.id), 0) FROM ClusterChange c")
+  long findMaxId();
+
+  @Modifying
+  @Query("DELETE FROM ClusterChange c WHERE c.createdAt < :before")
+  int deleteCreatedBefore(@Param("before") Instant before);
+}
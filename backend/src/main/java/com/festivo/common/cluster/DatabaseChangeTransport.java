@@ -0,0 +1,146 @@
+package com.festivo.common.cluster;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Change table in MySQL that every node appends to and polls, so the bus needs no extra
+ * infrastructure. Rows are read by id. Auto-increment ids are assigned before commit, so a row can
+ * become visible after a higher id has already been read; skipped ids are therefore re-queried
+ * until they show up or {@code festivo.cluster.gap-timeout} passes. Only the newest skipped ids are
+ * tracked, up to a small cap, since an in-flight transaction commits within seconds and every
+ * tracked id is sent back on each poll. Rows older than {@code festivo.cluster.retention} are purged.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "festivo.cluster.transport", havingValue = "database", matchIfMissing = true)
+public class DatabaseChangeTransport implements ChangeTransport {
+  private static final int BATCH_SIZE = 500;
+  private static final int MAX_TRACKED_GAPS = 100;
+
+  private final ClusterChangeRepository repository;
+  private final TransactionTemplate transactionTemplate;
+  private final Duration gapTimeout;
+  private final Duration retention;
+  private final List<BiConsumer<String, List<EntityChange>>> receivers = new CopyOnWriteArrayList<>();
+  private final Map<Long, Instant> gaps = new HashMap<>();
+  private long lastId = -1;
+
+  public DatabaseChangeTransport(
+      ClusterChangeRepository repository,
+      PlatformTransactionManager transactionManager,
+      @Value("${festivo.cluster.gap-timeout}") Duration gapTimeout,
+      @Value("${festivo.cluster.retention}") Duration retention) {
+    this.repository = repository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.gapTimeout = gapTimeout;
+    this.retention = retention;
+  }
+
+  /**
+   * Runs after the originating commit in its own transaction. If the write fails the peers keep
+   * their entries until the cache TTLs expire, which is the bound the caches already accept.
+   */
+  @Override
+  public void publish(String origin, List<EntityChange> changes) {
+    List<ClusterChange> rows = changes.stream().map(change -> toRow(origin, change)).toList();
+    try {
+      transactionTemplate.executeWithoutResult(status -> repository.saveAll(rows));
+    } catch (DataAccessException ex) {
+      log.warn("Could not publish {} entity changes to the cluster", rows.size(), ex);
+    }
+  }
+
+  @Override
+  public void onReceive(BiConsumer<String, List<EntityChange>> receiver) {
+    receivers.add(receiver);
+  }
+
+  @Scheduled(fixedDelayString = "${festivo.cluster.poll-interval}")
+  public synchronized void poll() {
+    if (lastId < 0) {
+      lastId = repository.findMaxId();
+      return;
+    }
+    List<ClusterChange> rows =
+        gaps.isEmpty()
+            ? repository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(BATCH_SIZE))
+            : repository.findByIdGreaterThanOrIdInOrderByIdAsc(
+                lastId, List.copyOf(gaps.keySet()), Limit.of(BATCH_SIZE));
+    Instant now = Instant.now();
+    for (ClusterChange row : rows) {
+      gaps.remove(row.getId());
+      if (row.getId() > lastId) {
+        long first = Math.max(lastId + 1, row.getId() - MAX_TRACKED_GAPS);
+        for (long missing = first; missing < row.getId() && gaps.size() < MAX_TRACKED_GAPS; missing++) {
+          gaps.put(missing, now);
+        }
+        lastId = row.getId();
+      }
+    }
+    Instant expired = now.minus(gapTimeout);
+    gaps.values().removeIf(noticed -> noticed.isBefore(expired));
+    deliver(rows);
+  }
+
+  @Scheduled(fixedDelayString = "${festivo.cluster.purge-interval}")
+  public void purge() {
+    Integer purged =
+        transactionTemplate.execute(status -> repository.deleteCreatedBefore(Instant.now().minus(retention)));
+    log.debug("Purged {} cluster changes", purged);
+  }
+
+  /** Hands rows to receivers in runs of the same origin, so one node's transaction stays one batch. */
+  private void deliver(List<ClusterChange> rows) {
+    List<EntityChange> batch = new ArrayList<>();
+    String origin = null;
+    for (ClusterChange row : rows) {
+      if (origin != null && !origin.equals(row.getOrigin())) {
+        dispatch(origin, batch);
+        batch = new ArrayList<>();
+      }
+      origin = row.getOrigin();
+      batch.add(toChange(row));
+    }
+    if (!batch.isEmpty()) {
+      dispatch(origin, batch);
+    }
+  }
+
+  private void dispatch(String origin, List<EntityChange> batch) {
+    List<EntityChange> changes = List.copyOf(batch);
+    receivers.forEach(receiver -> receiver.accept(origin, changes));
+  }
+
+  private static EntityChange toChange(ClusterChange row) {
+    return new EntityChange(row.getEntityType(), row.getEntityId(), row.getScopeId(), row.getVersion(), row.isDeleted());
+  }
+
+  private static ClusterChange toRow(String origin, EntityChange change) {
+    ClusterChange row = new ClusterChange();
+    row.setOrigin(origin);
+    row.setEntityType(change.entityType());
+    row.setEntityId(change.entityId());
+    row.setScopeId(change.scopeId());
+    row.setVersion(change.version());
+    row.setDeleted(change.deleted());
+    return row;
+  }
+}
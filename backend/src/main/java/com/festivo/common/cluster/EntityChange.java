@@ -0,0 +1,13 @@
+package com.festivo.common.cluster;
+
+/**
+ * One committed insert, update or delete of an entity. {@code version} is the entity's
+ * {@code updatedAt} in epoch millis. {@code scopeId} is the parent the row belongs to for entities
+ * that implement {@link com.festivo.common.model.ScopedEntity}, otherwise null.
+ */
+public record EntityChange(String entityType, Long entityId, Long scopeId, long version, boolean deleted) {
+
+  public boolean is(Class<?> type) {
+    return type.getName().equals(entityType);
+  }
+}
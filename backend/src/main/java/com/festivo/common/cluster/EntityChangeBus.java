@@ -0,0 +1,115 @@
+package com.festivo.common.cluster;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Broadcasts entity changes to the other nodes and hands theirs to local
+ * {@link EntityChangeSubscriber}s. Changes are collected per transaction and published once after
+ * commit, so peers never evict for a rollback. Only entity types some subscriber observes are
+ * recorded; everything else is dropped at the source.
+ */
+@Slf4j
+@Component
+public class EntityChangeBus {
+  private final String nodeId = UUID.randomUUID().toString();
+  private final ChangeTransport transport;
+  private final Map<EntityChangeSubscriber, Set<String>> subscriptions = new LinkedHashMap<>();
+  private final Set<String> observedTypes = new HashSet<>();
+
+  public EntityChangeBus(ChangeTransport transport, List<EntityChangeSubscriber> subscribers) {
+    this.transport = transport;
+    for (EntityChangeSubscriber subscriber : subscribers) {
+      Set<String> types = subscriber.entityTypes().stream().map(Class::getName).collect(Collectors.toSet());
+      subscriptions.put(subscriber, types);
+      observedTypes.addAll(types);
+    }
+    transport.onReceive(this::receive);
+  }
+
+  public boolean observes(Class<?> entityType) {
+    return observedTypes.contains(entityType.getName());
+  }
+
+  public void record(EntityChange change) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      transport.publish(nodeId, List.of(change));
+      return;
+    }
+    PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+    if (pending == null) {
+      pending = new PendingChanges();
+      TransactionSynchronizationManager.bindResource(this, pending);
+      TransactionSynchronizationManager.registerSynchronization(pending);
+    }
+    pending.changes.put(change.entityType() + ':' + change.entityId(), change);
+  }
+
+  /**
+   * Reports rows changed by a bulk JPQL update, which bypasses entity callbacks. {@code version} is
+   * the {@code updatedAt} the update wrote. A {@code @Modifying} query on an entity some subscriber
+   * observes must be followed by this call in the same transaction, or peers never hear of it.
+   */
+  public void recordBulkUpdate(Class<?> entityType, Collection<Long> ids, Instant version) {
+    if (!observes(entityType)) {
+      return;
+    }
+    ids.forEach(id -> record(new EntityChange(entityType.getName(), id, null, version.toEpochMilli(), false)));
+  }
+
+  private void receive(String origin, List<EntityChange> changes) {
+    if (nodeId.equals(origin)) {
+      return;
+    }
+    subscriptions.forEach(
+        (subscriber, types) -> {
+          List<EntityChange> relevant =
+              changes.stream().filter(change -> types.contains(change.entityType())).toList();
+          if (relevant.isEmpty()) {
+            return;
+          }
+          try {
+            subscriber.onRemoteChanges(relevant);
+          } catch (RuntimeException ex) {
+            String name = subscriber.getClass().getSimpleName();
+            log.warn("{} failed to apply {} remote changes", name, relevant.size(), ex);
+          }
+        });
+  }
+
+  /** Last change per entity in the current transaction, published on commit. */
+  private final class PendingChanges implements TransactionSynchronization {
+    private final Map<String, EntityChange> changes = new LinkedHashMap<>();
+
+    @Override
+    public void suspend() {
+      TransactionSynchronizationManager.unbindResource(EntityChangeBus.this);
+    }
+
+    @Override
+    public void resume() {
+      TransactionSynchronizationManager.bindResource(EntityChangeBus.this, this);
+    }
+
+    @Override
+    public void afterCommit() {
+      transport.publish(nodeId, List.copyOf(changes.values()));
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+      TransactionSynchronizationManager.unbindResourceIfPossible(EntityChangeBus.this);
+    }
+  }
+}
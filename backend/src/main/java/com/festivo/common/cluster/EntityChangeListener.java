@@ -0,0 +1,48 @@
+package com.festivo.common.cluster;
+
+import com.festivo.common.model.AuditableEntity;
+import com.festivo.common.model.ScopedEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * JPA callbacks on every {@link AuditableEntity} that feed the {@link EntityChangeBus}. Hibernate
+ * creates this through Spring while the entity manager factory is still being built, so the bus is
+ * looked up on first use rather than injected.
+ *
+ * <p>Bulk JPQL and native {@code UPDATE}/{@code DELETE} statements never load the rows, so none of
+ * these callbacks fire for them. Whoever issues one against an entity type must report the rows
+ * itself through {@link EntityChangeBus#recordBulkUpdate}, or peers keep serving the old state.
+ */
+public class EntityChangeListener {
+  private final ObjectProvider<EntityChangeBus> bus;
+
+  public EntityChangeListener(ObjectProvider<EntityChangeBus> bus) {
+    this.bus = bus;
+  }
+
+  @PostPersist
+  @PostUpdate
+  void changed(Object entity) {
+    record((AuditableEntity) entity, false);
+  }
+
+  @PostRemove
+  void removed(Object entity) {
+    record((AuditableEntity) entity, true);
+  }
+
+  private void record(AuditableEntity entity, boolean deleted) {
+    EntityChangeBus target = bus.getIfAvailable();
+    Class<?> type = Hibernate.getClass(entity);
+    if (target == null || !target.observes(type)) {
+      return;
+    }
+    Long scopeId = entity instanceof ScopedEntity scoped ? scoped.scopeId() : null;
+    long version = entity.getUpdatedAt() != null ? entity.getUpdatedAt().toEpochMilli() : 0;
+    target.record(new EntityChange(type.getName(), entity.getId(), scopeId, version, deleted));
+  }
+}
@@ -0,0 +1,15 @@
+package com.festivo.common.cluster;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A node-local cache that must drop entries when another node changes an entity. Changes made on
+ * this node are not delivered; the usual after-commit events already cover those.
+ */
+public interface EntityChangeSubscriber {
+  Set<Class<?>> entityTypes();
+
+  /** Called with the changes of one committed transaction, filtered to {@link #entityTypes()}. */
+  void onRemoteChanges(List<EntityChange> changes);
+}
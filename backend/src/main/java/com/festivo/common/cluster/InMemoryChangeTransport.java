@@ -0,0 +1,36 @@
+package com.festivo.common.cluster;
+
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Delivers batches synchronously to every receiver in this JVM. Receivers are shared across
+ * application contexts, so tests can start several contexts as stand-ins for separate nodes.
+ */
+@Component
+@ConditionalOnProperty(name = "festivo.cluster.transport", havingValue = "memory")
+public class InMemoryChangeTransport implements ChangeTransport {
+  private static final List<BiConsumer<String, List<EntityChange>>> RECEIVERS = new CopyOnWriteArrayList<>();
+
+  private final List<BiConsumer<String, List<EntityChange>>> registered = new CopyOnWriteArrayList<>();
+
+  @Override
+  public void publish(String origin, List<EntityChange> changes) {
+    RECEIVERS.forEach(receiver -> receiver.accept(origin, changes));
+  }
+
+  @Override
+  public void onReceive(BiConsumer<String, List<EntityChange>> receiver) {
+    registered.add(receiver);
+    RECEIVERS.add(receiver);
+  }
+
+  @PreDestroy
+  void close() {
+    RECEIVERS.removeAll(registered);
+  }
+}
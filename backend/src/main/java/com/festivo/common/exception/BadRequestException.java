@@ -0,0 +1,8 @@
+package com.festivo.common.exception;
+
+/** A request the client has to fix, such as a malformed cursor or an unknown sort. */
+public class BadRequestException extends RuntimeException {
+  public BadRequestException(String message) {
+    super(message);
+  }
+}
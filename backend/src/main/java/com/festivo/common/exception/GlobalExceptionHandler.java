@@ -23,6 +23,11 @@ public class GlobalExceptionHandler {
     return build(HttpStatus.CONFLICT, ex.getMessage());
   }
 
+  @ExceptionHandler(BadRequestException.class)
+  public ResponseEntity<Map<String, Object>> handleBadRequest(BadRequestException ex) {
+    return build(HttpStatus.BAD_REQUEST, ex.getMessage());
+  }
+
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<Map<String, Object>> handleValidation(MethodArgumentNotValidException ex) {
     Map<String, Object> body = new HashMap<>();
@@ -0,0 +1,12 @@
+package com.festivo.common.lock;
+
+import java.time.Duration;
+
+/**
+ * Named mutual exclusion across all nodes. Locks are scoped to the current transaction: they are
+ * released when it commits or rolls back, so a crash or exception can never leave one behind.
+ */
+public interface ClusterLockProvider {
+  /** Waits up to {@code timeout} for the lock; returns false if it is still held elsewhere. */
+  boolean lockForTransaction(String name, Duration timeout);
+}
@@ -0,0 +1,56 @@
+package com.festivo.common.lock;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One reentrant lock per key, so unrelated keys never contend. An entry lives only while some
+ * thread holds or waits for it, which keeps memory proportional to concurrency rather than to the
+ * number of keys ever locked.
+ */
+public final class KeyedLocks<K> {
+  private final ConcurrentMap<K, Entry> locks = new ConcurrentHashMap<>();
+
+  /** Waits up to {@code timeout}; returns false on timeout or interrupt. */
+  public boolean tryLock(K key, Duration timeout) {
+    Entry entry =
+        locks.compute(
+            key,
+            (k, current) -> {
+              Entry next = current != null ? current : new Entry();
+              next.users++;
+              return next;
+            });
+    boolean acquired = false;
+    try {
+      acquired = entry.lock.tryLock(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    if (!acquired) {
+      leave(key);
+    }
+    return acquired;
+  }
+
+  public void unlock(K key) {
+    Entry entry = locks.get(key);
+    if (entry == null) {
+      throw new IllegalMonitorStateException("Lock not held: " + key);
+    }
+    entry.lock.unlock();
+    leave(key);
+  }
+
+  private void leave(K key) {
+    locks.computeIfPresent(key, (k, entry) -> --entry.users == 0 ? null : entry);
+  }
+
+  private static final class Entry {
+    private final ReentrantLock lock = new ReentrantLock();
+    private int users;
+  }
+}
@@ -0,0 +1,32 @@
+package com.festivo.common.lock;
+
+import java.time.Duration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/** In-JVM locks for a single node and for tests; excludes nothing across replicas. */
+@Component
+@ConditionalOnProperty(name = "festivo.locks.provider", havingValue = "local")
+public class LocalLockProvider implements ClusterLockProvider {
+  private final KeyedLocks<String> locks = new KeyedLocks<>();
+
+  @Override
+  public boolean lockForTransaction(String name, Duration timeout) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      throw new IllegalStateException("Lock " + name + " requires an active transaction");
+    }
+    if (!locks.tryLock(name, timeout)) {
+      return false;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            locks.unlock(name);
+          }
+        });
+    return true;
+  }
+}
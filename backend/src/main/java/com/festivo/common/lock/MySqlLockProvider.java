@@ -0,0 +1,76 @@
+package com.festivo.common.lock;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * MySQL {@code GET_LOCK} on the transaction's own connection. Named locks belong to the session,
+ * not the transaction, so the lock is released explicitly after completion; Spring's Hibernate
+ * integration holds the connection until then, so the release runs on the same session. If the
+ * node dies, MySQL drops the lock with the session.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "festivo.locks.provider", havingValue = "mysql", matchIfMissing = true)
+public class MySqlLockProvider implements ClusterLockProvider {
+  /** MySQL rejects longer lock names. */
+  private static final int MAX_NAME_LENGTH = 64;
+
+  private final DataSource dataSource;
+
+  @Override
+  public boolean lockForTransaction(String name, Duration timeout) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      throw new IllegalStateException("Lock " + name + " requires an active transaction");
+    }
+    if (name.length() > MAX_NAME_LENGTH) {
+      throw new IllegalArgumentException("Lock name too long: " + name);
+    }
+    Connection connection = DataSourceUtils.getConnection(dataSource);
+    try {
+      if (!call(connection, "SELECT GET_LOCK(?, ?)", name, timeout.toMillis() / 1000.0)) {
+        return false;
+      }
+    } catch (SQLException ex) {
+      throw new CannotAcquireLockException("Could not take lock " + name, ex);
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            try {
+              call(connection, "SELECT RELEASE_LOCK(?)", name, null);
+            } catch (SQLException ex) {
+              log.warn("Could not release lock {}", name, ex);
+            }
+          }
+        });
+    return true;
+  }
+
+  private static boolean call(Connection connection, String sql, String name, Double timeoutSeconds)
+      throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setString(1, name);
+      if (timeoutSeconds != null) {
+        statement.setDouble(2, timeoutSeconds);
+      }
+      try (ResultSet result = statement.executeQuery()) {
+        return result.next() && result.getInt(1) == 1;
+      }
+    }
+  }
+}
@@ -1,6 +1,8 @@
 package com.festivo.common.model;
 
+import com.festivo.common.cluster.EntityChangeListener;
 import jakarta.persistence.Column;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -14,6 +16,7 @@ import lombok.Setter;
 @Getter
 @Setter
 @MappedSuperclass
+@EntityListeners(EntityChangeListener.class)
 public abstract class AuditableEntity {
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,18 @@
+package com.festivo.common.model;
+
+import java.time.Instant;
+
+/**
+ * Latest {@code updatedAt} and row count of a result set, read with one aggregate query instead of
+ * loading the rows. An insert or update moves the timestamp and a delete moves the count, so the
+ * pair changes whenever the result does. The tag carries the full timestamp, since {@code
+ * updated_at} is stored with microsecond precision and two writes within one millisecond must still
+ * produce different tags.
+ */
+public record ChangeStamp(Instant lastModified, long count) {
+  public String etag() {
+    long micros =
+        lastModified != null ? lastModified.getEpochSecond() * 1_000_000 + lastModified.getNano() / 1_000 : 0;
+    return "W/\"" + count + "-" + micros + "\"";
+  }
+}
@@ -0,0 +1,6 @@
+package com.festivo.common.model;
+
+import java.time.Instant;
+
+/** Position of a row in {@code (createdAt, id)} order, for resuming a keyset scan after it. */
+public record KeysetRow(Long id, Instant createdAt) {}
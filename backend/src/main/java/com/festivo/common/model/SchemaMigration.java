@@ -0,0 +1,53 @@
+package com.festivo.common.model;
+
+import com.festivo.common.lock.ClusterLockProvider;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * A schema change {@code ddl-auto: update} cannot make. Runs once every singleton exists, so after
+ * Hibernate has updated the schema and before the web server starts taking traffic. The cluster
+ * lock is held by an otherwise empty transaction while {@link #migrate()} runs with that
+ * transaction suspended, on its own autocommit connection, since MySQL commits implicitly around
+ * DDL. Implementations must be idempotent.
+ */
+@Slf4j
+public abstract class SchemaMigration implements SmartInitializingSingleton {
+  protected final JdbcTemplate jdbcTemplate;
+  private final String lock;
+  private final ClusterLockProvider clusterLocks;
+  private final TransactionTemplate lockTransaction;
+  private final TransactionTemplate outsideTransaction;
+
+  protected SchemaMigration(
+      String lock,
+      JdbcTemplate jdbcTemplate,
+      ClusterLockProvider clusterLocks,
+      PlatformTransactionManager transactionManager) {
+    this.lock = lock;
+    this.jdbcTemplate = jdbcTemplate;
+    this.clusterLocks = clusterLocks;
+    this.lockTransaction = new TransactionTemplate(transactionManager);
+    this.outsideTransaction = new TransactionTemplate(transactionManager);
+    this.outsideTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    lockTransaction.executeWithoutResult(
+        status -> {
+          if (!clusterLocks.lockForTransaction(lock, Duration.ofMinutes(1))) {
+            log.warn("Skipped {}, another node holds its lock", getClass().getSimpleName());
+            return;
+          }
+          outsideTransaction.executeWithoutResult(inner -> migrate());
+        });
+  }
+
+  protected abstract void migrate();
+}
@@ -0,0 +1,9 @@
+package com.festivo.common.model;
+
+/**
+ * Entity that belongs to a parent row, such as an offering under its vendor. The parent id travels
+ * with cluster change events so that peers can evict by parent without loading the row.
+ */
+public interface ScopedEntity {
+  Long scopeId();
+}
@@ -0,0 +1,50 @@
+package com.festivo.common.model;
+
+import com.festivo.common.lock.ClusterLockProvider;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Widens second-precision {@code created_at} and {@code updated_at} columns, as the original seed
+ * schema created them, to microseconds. {@link ChangeStamp} relies on {@code updatedAt} moving on
+ * every write, which a whole-second column does not guarantee for two edits in the same second.
+ * {@code ddl-auto: update} never alters column types.
+ */
+@Slf4j
+@Component
+public class TimestampPrecisionMigration extends SchemaMigration {
+  public TimestampPrecisionMigration(
+      JdbcTemplate jdbcTemplate, ClusterLockProvider clusterLocks, PlatformTransactionManager transactionManager) {
+    super("festivo:timestamp-precision-migration", jdbcTemplate, clusterLocks, transactionManager);
+  }
+
+  @Override
+  protected void migrate() {
+    Map<String, List<Map<String, Object>>> columns =
+        jdbcTemplate
+            .queryForList(
+                "SELECT table_name AS tbl, column_name AS col, data_type AS type, is_nullable AS nullable "
+                    + "FROM information_schema.columns WHERE table_schema = DATABASE() "
+                    + "AND column_name IN ('created_at', 'updated_at') "
+                    + "AND data_type IN ('timestamp', 'datetime') AND datetime_precision = 0")
+            .stream()
+            .collect(Collectors.groupingBy(column -> (String) column.get("tbl")));
+    columns.forEach(
+        (table, tableColumns) -> {
+          String changes =
+              tableColumns.stream()
+                  .map(
+                      column ->
+                          "MODIFY `" + column.get("col") + "` " + column.get("type") + "(6) "
+                              + ("YES".equals(column.get("nullable")) ? "NULL" : "NOT NULL"))
+                  .collect(Collectors.joining(", "));
+          jdbcTemplate.execute("ALTER TABLE `" + table + "` " + changes);
+          log.info("Widened {} timestamp columns of {} to microseconds", tableColumns.size(), table);
+        });
+  }
+}
@@ -0,0 +1,31 @@
+package com.festivo.common.web;
+
+import com.festivo.common.model.ChangeStamp;
+import java.util.function.Supplier;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Answers a GET from a {@link ChangeStamp}: when the client's {@code If-None-Match} or {@code
+ * If-Modified-Since} still matches, the body supplier is never called and a 304 goes out.
+ * Responses are marked {@code private, no-cache} so clients keep them but revalidate every time.
+ */
+public final class ConditionalGet {
+  public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+  private ConditionalGet() {}
+
+  /** Returns null once Spring has written the 304, which tells MVC the request is handled. */
+  public static <T> ResponseEntity<T> respond(WebRequest request, ChangeStamp stamp, Supplier<T> body) {
+    long lastModified = stamp.lastModified() != null ? stamp.lastModified().toEpochMilli() : -1;
+    if (request.checkNotModified(stamp.etag(), lastModified)) {
+      return null;
+    }
+    return ResponseEntity.ok()
+        .eTag(stamp.etag())
+        .lastModified(lastModified)
+        .cacheControl(REVALIDATE)
+        .body(body.get());
+  }
+}
@@ -0,0 +1,19 @@
+package com.festivo.common.web;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/** Serialized UTF-8 JSON body together with a strong ETag over its bytes. */
+public record JsonSnapshot(byte[] body, String etag) {
+  /**
+   * A 200 response carrying the bytes as-is. Spring answers {@code If-None-Match} on it with a 304
+   * before anything is written.
+   */
+  public ResponseEntity<byte[]> toResponse() {
+    return ResponseEntity.ok()
+        .eTag(etag)
+        .cacheControl(ConditionalGet.REVALIDATE)
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(body);
+  }
+}
@@ -0,0 +1,74 @@
+package com.festivo.common.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Keeps serialized JSON responses keyed by name, bounded by their total size in bytes. Owners
+ * invalidate their keys when the underlying data changes; until then a read costs a map lookup and
+ * no serialization. Every invalidation bumps a generation, and a load that overlapped one is not
+ * kept, because it may have read the database before the change. Entries also expire after a TTL
+ * as a backstop for a missed invalidation.
+ */
+@Component
+public class JsonSnapshotStore {
+  private final ObjectMapper objectMapper;
+  private final Cache<String, JsonSnapshot> snapshots;
+  private final AtomicLong generation = new AtomicLong();
+
+  public JsonSnapshotStore(
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${festivo.cache.json-snapshots.max-bytes}") long maxBytes,
+      @Value("${festivo.cache.json-snapshots.ttl}") Duration ttl) {
+    this.objectMapper = objectMapper;
+    this.snapshots =
+        Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((String key, JsonSnapshot snapshot) -> snapshot.body().length)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, snapshots, "jsonSnapshots");
+  }
+
+  public JsonSnapshot get(String key, Supplier<?> source) {
+    long observed = generation.get();
+    JsonSnapshot snapshot = snapshots.get(key, k -> render(source.get()));
+    if (generation.get() != observed) {
+      snapshots.asMap().remove(key, snapshot);
+    }
+    return snapshot;
+  }
+
+  /** Serializes {@code value} without storing it, for responses that are not worth keeping. */
+  public JsonSnapshot render(Object value) {
+    try {
+      byte[] body = objectMapper.writeValueAsBytes(value);
+      return new JsonSnapshot(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+    } catch (JsonProcessingException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  public void invalidate(String key) {
+    generation.incrementAndGet();
+    snapshots.invalidate(key);
+  }
+
+  public void invalidatePrefix(String prefix) {
+    generation.incrementAndGet();
+    snapshots.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+  }
+}
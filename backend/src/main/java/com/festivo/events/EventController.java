@@ -2,12 +2,14 @@ package com.festivo.events;
 
 import com.festivo.auth.CurrentUser;
 import com.festivo.common.security.Roles;
+import com.festivo.common.web.ConditionalGet;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,6 +20,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -32,18 +35,21 @@ public class EventController {
   }
 
   @GetMapping("/{eventId}")
-  public Event get(@PathVariable Long eventId) {
-    return eventService.get(eventId);
+  public ResponseEntity<Event> get(@PathVariable Long eventId, WebRequest request) {
+    return ConditionalGet.respond(request, eventService.changeStamp(eventId), () -> eventService.get(eventId));
   }
 
   @GetMapping
-  public List<Event> forCustomer(@RequestParam Long customerId) {
-    return eventService.forCustomer(customerId);
+  public ResponseEntity<List<Event>> forCustomer(@RequestParam Long customerId, WebRequest request) {
+    return ConditionalGet.respond(
+        request, eventService.customerChangeStamp(customerId), () -> eventService.forCustomer(customerId));
   }
 
   @GetMapping("/my")
-  public List<Event> forCurrentUser() {
-    return eventService.forCurrentUser(CurrentUser.subject());
+  public ResponseEntity<List<Event>> forCurrentUser(WebRequest request) {
+    String subject = CurrentUser.subject();
+    return ConditionalGet.respond(
+        request, eventService.currentUserChangeStamp(subject), () -> eventService.forCurrentUser(subject));
   }
 
   @PutMapping("/{eventId}")
@@ -1,8 +1,31 @@
 package com.festivo.events;
 
+import com.festivo.common.model.ChangeStamp;
+import jakarta.persistence.LockModeType;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface EventRepository extends JpaRepository<Event, Long> {
   List<Event> findByCustomerId(Long customerId);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT e FROM Event e WHERE e.id = :id")
+  Optional<Event> lockById(@Param("id") Long id);
+
+  @Query("SELECT new com.festivo.common.model.ChangeStamp(MAX(e.updatedAt), COUNT(e)) FROM Event e WHERE e.id = :id")
+  ChangeStamp changeStampById(@Param("id") Long id);
+
+  @Query(
+      "SELECT new com.festivo.common.model.ChangeStamp(MAX(e.updatedAt), COUNT(e)) FROM Event e "
+          + "WHERE e.customer.id = :customerId")
+  ChangeStamp changeStampByCustomerId(@Param("customerId") Long customerId);
+
+  @Query(
+      "SELECT new com.festivo.common.model.ChangeStamp(MAX(e.updatedAt), COUNT(e)) FROM Event e "
+          + "WHERE e.customer.user.externalId = :externalId")
+  ChangeStamp changeStampByCustomerExternalId(@Param("externalId") String externalId);
 }
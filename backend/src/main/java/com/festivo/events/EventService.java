@@ -1,6 +1,7 @@
 package com.festivo.events;
 
 import com.festivo.common.exception.ResourceNotFoundException;
+import com.festivo.common.model.ChangeStamp;
 import com.festivo.users.Customer;
 import com.festivo.users.CustomerRepository;
 import com.festivo.users.User;
@@ -48,6 +49,18 @@ public class EventService {
         .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
   }
 
+  public ChangeStamp changeStamp(Long eventId) {
+    return eventRepository.changeStampById(eventId);
+  }
+
+  public ChangeStamp customerChangeStamp(Long customerId) {
+    return eventRepository.changeStampByCustomerId(customerId);
+  }
+
+  public ChangeStamp currentUserChangeStamp(String customerExternalId) {
+    return eventRepository.changeStampByCustomerExternalId(customerExternalId);
+  }
+
   public List<Event> forCustomer(Long customerId) {
     return eventRepository.findByCustomerId(customerId);
   }
@@ -2,11 +2,13 @@ package com.festivo.messaging;
 
 import com.festivo.auth.CurrentUser;
 import com.festivo.common.security.Roles;
+import com.festivo.common.web.ConditionalGet;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -14,6 +16,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -23,8 +26,9 @@ public class ChatController {
 
   @GetMapping("/booking/{bookingId}")
   @PreAuthorize("hasAnyAuthority('" + Roles.CUSTOMER + "','" + Roles.VENDOR + "','" + Roles.ADMIN + "')")
-  public List<Message> messages(@PathVariable Long bookingId) {
-    return chatService.getMessages(bookingId);
+  public ResponseEntity<List<Message>> messages(@PathVariable Long bookingId, WebRequest request) {
+    return ConditionalGet.respond(
+        request, chatService.changeStamp(bookingId), () -> chatService.getMessages(bookingId));
   }
 
   @PostMapping("/booking/{bookingId}")
@@ -3,6 +3,7 @@ package com.festivo.messaging;
 import com.festivo.bookings.Booking;
 import com.festivo.bookings.BookingService;
 import com.festivo.common.exception.ResourceNotFoundException;
+import com.festivo.common.model.ChangeStamp;
 import com.festivo.users.User;
 import com.festivo.users.UserRepository;
 import jakarta.transaction.Transactional;
@@ -19,6 +20,12 @@ public class ChatService {
   private final BookingService bookingService;
   private final UserRepository userRepository;
 
+  /** Checks the booking first, so a missing booking is a 404 even when an empty chat's ETag matches. */
+  public ChangeStamp changeStamp(Long bookingId) {
+    bookingService.get(bookingId);
+    return messageRepository.changeStampByBookingId(bookingId);
+  }
+
   public List<Message> getMessages(Long bookingId) {
     bookingService.get(bookingId);
     return messageRepository.findByBookingIdOrderByCreatedAtAsc(bookingId);
@@ -0,0 +1,6 @@
+package com.festivo.messaging;
+
+import java.time.Instant;
+
+/** First customer message and first vendor message in one booking's chat; either may be null. */
+public record ConversationResponse(Long vendorId, Instant firstInquiry, Instant firstReply) {}
@@ -1,8 +1,42 @@
 package com.festivo.messaging;
 
+import com.festivo.common.model.ChangeStamp;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MessageRepository extends JpaRepository<Message, Long> {
   List<Message> findByBookingIdOrderByCreatedAtAsc(Long bookingId);
+
+  @Query(
+      "SELECT new com.festivo.messaging.ConversationResponse(v.id, "
+          + "MIN(CASE WHEN m.sender.id <> o.id THEN m.createdAt END), "
+          + "MIN(CASE WHEN m.sender.id = o.id THEN m.createdAt END)) "
+          + "FROM Message m JOIN m.booking b JOIN b.vendor v JOIN v.owner o "
+          + "WHERE v.id IN :vendorIds AND m.createdAt >= :since GROUP BY v.id, b.id")
+  List<ConversationResponse> findConversationResponses(
+      @Param("vendorIds") Collection<Long> vendorIds, @Param("since") Instant since);
+
+  @Query("SELECT DISTINCT b.vendor.id FROM Message m JOIN m.booking b WHERE m.createdAt > :since")
+  List<Long> findVendorIdsMessagedSince(@Param("since") Instant since);
+
+  @Query(
+      "SELECT new com.festivo.common.model.ChangeStamp(MAX(m.updatedAt), COUNT(m)) FROM Message m "
+          + "WHERE m.booking.id = :bookingId")
+  ChangeStamp changeStampByBookingId(@Param("bookingId") Long bookingId);
+
+  @Query(
+      "SELECT m FROM Message m WHERE m.booking.id = :bookingId "
+          + "AND (m.updatedAt > :since OR (m.updatedAt = :since AND m.id > :afterId)) AND m.updatedAt <= :until "
+          + "ORDER BY m.updatedAt, m.id")
+  List<Message> findChangedSince(
+      @Param("bookingId") Long bookingId,
+      @Param("since") Instant since,
+      @Param("afterId") long afterId,
+      @Param("until") Instant until,
+      Limit limit);
 }
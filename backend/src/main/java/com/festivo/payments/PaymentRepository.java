@@ -1,12 +1,39 @@
 package com.festivo.payments;
 
+import com.festivo.common.model.KeysetRow;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
   Optional<Payment> findByProviderReference(String providerReference);
 
   List<Payment> findByBookingIdIn(Collection<Long> bookingIds);
+
+  @Query(
+      "SELECT new com.festivo.common.model.KeysetRow(p.id, p.createdAt) FROM Payment p LEFT JOIN p.booking b "
+          + "WHERE p.status = :status AND p.createdAt < :cutoff "
+          + "AND (b IS NULL OR b.status IN ('CANCELLED', 'EXPIRED')) "
+          + "AND (p.createdAt > :afterCreatedAt OR (p.createdAt = :afterCreatedAt AND p.id > :afterId)) "
+          + "ORDER BY p.createdAt, p.id")
+  List<KeysetRow> findStale(
+      @Param("status") PaymentStatus status,
+      @Param("cutoff") Instant cutoff,
+      @Param("afterCreatedAt") Instant afterCreatedAt,
+      @Param("afterId") long afterId,
+      Limit limit);
+
+  @Modifying
+  @Query("UPDATE Payment p SET p.status = :expired, p.updatedAt = :now WHERE p.id IN :ids AND p.status = :stale")
+  int expireStale(
+      @Param("ids") Collection<Long> ids,
+      @Param("now") Instant now,
+      @Param("stale") PaymentStatus stale,
+      @Param("expired") PaymentStatus expired);
 }
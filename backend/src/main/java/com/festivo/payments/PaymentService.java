@@ -1,18 +1,28 @@
 package com.festivo.payments;
 
 import com.festivo.bookings.Booking;
+import com.festivo.bookings.BookingAdmission;
+import com.festivo.bookings.BookingChangedEvent;
+import com.festivo.bookings.BookingRepository;
 import com.festivo.bookings.BookingStatus;
 import com.festivo.common.exception.ResourceNotFoundException;
 import jakarta.transaction.Transactional;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -27,22 +37,36 @@ public class PaymentService {
   private String notifyUrl;
 
   private final PaymentRepository paymentRepository;
+  private final BookingRepository bookingRepository;
+  private final BookingAdmission admission;
+  private final ApplicationEventPublisher eventPublisher;
+  private final PlatformTransactionManager transactionManager;
 
   public Payment ensurePaymentDraft(Booking booking) {
     return paymentRepository
-        .findByProviderReference("booking-" + booking.getId())
-        .orElseGet(
-            () -> {
-              Payment payment = new Payment();
-              payment.setBooking(booking);
-              payment.setProvider("PayHere");
-              payment.setProviderReference("booking-" + booking.getId());
-              payment.setStatus(PaymentStatus.INITIATED);
-              payment.setAmount(booking.getDepositAmount() != null ? booking.getDepositAmount() : booking.getTotalAmount());
-              payment.setCurrency(booking.getCurrency());
-              payment.setInvoiceNumber(UUID.randomUUID().toString());
-              return paymentRepository.save(payment);
-            });
+        .findByProviderReference(providerReference(booking))
+        .orElseGet(() -> paymentRepository.save(draft(booking)));
+  }
+
+  /** Drafts payments for bookings that were just inserted and so cannot have one yet. */
+  public List<Payment> createPaymentDrafts(Collection<Booking> bookings) {
+    return paymentRepository.saveAll(bookings.stream().map(PaymentService::draft).toList());
+  }
+
+  private static Payment draft(Booking booking) {
+    Payment payment = new Payment();
+    payment.setBooking(booking);
+    payment.setProvider("PayHere");
+    payment.setProviderReference(providerReference(booking));
+    payment.setStatus(PaymentStatus.INITIATED);
+    payment.setAmount(booking.getDepositAmount() != null ? booking.getDepositAmount() : booking.getTotalAmount());
+    payment.setCurrency(booking.getCurrency());
+    payment.setInvoiceNumber(UUID.randomUUID().toString());
+    return payment;
+  }
+
+  private static String providerReference(Booking booking) {
+    return "booking-" + booking.getId();
   }
 
   public Map<String, Object> createSession(Payment payment) {
@@ -60,18 +84,65 @@ public class PaymentService {
     return payload;
   }
 
+  /**
+   * Records a paid callback. Settling runs under the vendor's admission lock, taken before its
+   * transaction opens, so a late payment's slot check reads bookings committed up to that point.
+   */
+  @Transactional(Transactional.TxType.NOT_SUPPORTED)
   public Payment markPaid(String providerReference, BigDecimal amount) {
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    Long vendorId =
+        transaction.execute(
+            status ->
+                paymentRepository
+                    .findByProviderReference(providerReference)
+                    .map(payment -> payment.getBooking() != null ? payment.getBooking().getVendor().getId() : null)
+                    .orElseThrow(() -> new ResourceNotFoundException("Payment not found")));
+    return vendorId == null
+        ? transaction.execute(status -> settle(providerReference, amount))
+        : admission.admit(vendorId, () -> settle(providerReference, amount));
+  }
+
+  private Payment settle(String providerReference, BigDecimal amount) {
     Payment payment =
         paymentRepository
             .findByProviderReference(providerReference)
             .orElseThrow(() -> new ResourceNotFoundException("Payment not found"));
-    payment.setStatus(PaymentStatus.PAID);
     payment.setPaidAt(Instant.now());
     payment.setAmount(amount);
-    Booking booking = payment.getBooking();
-    if (booking != null && booking.getStatus() == BookingStatus.PENDING) {
-      booking.setStatus(BookingStatus.CONFIRMED);
+    boolean confirmed = payment.getBooking() == null || confirmPaid(payment.getBooking().getId());
+    payment.setStatus(confirmed ? PaymentStatus.PAID : PaymentStatus.REFUND_DUE);
+    if (!confirmed) {
+      log.warn("Payment {} for booking {} is due a refund", providerReference, payment.getBooking().getId());
     }
     return paymentRepository.save(payment);
   }
+
+  /**
+   * Turns a paid hold into a confirmed booking. The row is locked so hold expiry cannot interleave.
+   * A payment that lands after its hold expired still confirms the booking if the slot is free;
+   * the caller holds the vendor's admission lock. Returns whether the booking ends up confirmed or
+   * completed; otherwise the customer paid for nothing and is owed a refund.
+   */
+  private boolean confirmPaid(Long bookingId) {
+    Booking booking = bookingRepository.lockById(bookingId).orElse(null);
+    if (booking == null) {
+      return false;
+    }
+    if (booking.getStatus() == BookingStatus.CONFIRMED || booking.getStatus() == BookingStatus.COMPLETED) {
+      return true;
+    }
+    if (booking.getStatus() == BookingStatus.EXPIRED) {
+      if (bookingRepository.existsConflictingBooking(
+          booking.getVendor().getId(), booking.getStartTime(), booking.getEndTime())) {
+        return false;
+      }
+    } else if (booking.getStatus() != BookingStatus.HELD && booking.getStatus() != BookingStatus.PENDING) {
+      return false;
+    }
+    booking.setStatus(BookingStatus.CONFIRMED);
+    booking.setHoldExpiresAt(null);
+    eventPublisher.publishEvent(BookingChangedEvent.of(booking));
+    return true;
+  }
 }
@@ -5,5 +5,9 @@ public enum PaymentStatus {
   PENDING,
   PAID,
   FAILED,
-  REFUNDED
+  /** Paid for a booking that could not be confirmed, so the money has to go back. */
+  REFUND_DUE,
+  REFUNDED,
+  /** Draft abandoned before payment; set by the stale-row sweeper. */
+  EXPIRED
 }
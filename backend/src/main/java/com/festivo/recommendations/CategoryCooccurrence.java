@@ -0,0 +1,36 @@
+package com.festivo.recommendations;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+/** One non-zero cell of the category x category matrix: events in which both categories were booked. */
+@Getter
+@Setter
+@Entity
+@Table(
+    name = "category_cooccurrences",
+    uniqueConstraints =
+        @UniqueConstraint(name = "uk_category_cooccurrence", columnNames = {"category_id", "other_category_id"}),
+    indexes = @Index(name = "idx_category_cooccurrence_rank", columnList = "category_id, pair_count"))
+public class CategoryCooccurrence {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "category_id", nullable = false)
+  private Long categoryId;
+
+  @Column(name = "other_category_id", nullable = false)
+  private Long otherCategoryId;
+
+  @Column(name = "pair_count", nullable = false)
+  private long pairCount;
+}
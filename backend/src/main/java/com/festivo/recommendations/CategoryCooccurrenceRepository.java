@@ -0,0 +1,24 @@
+package com.festivo.recommendations;
+
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface CategoryCooccurrenceRepository extends JpaRepository<CategoryCooccurrence, Long> {
+  List<CategoryCooccurrence> findByCategoryIdOrderByPairCountDescOtherCategoryIdAsc(Long categoryId, Limit limit);
+
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "category_cooccurrences"))
+  @Query(
+      value =
+          "INSERT INTO category_cooccurrences (category_id, other_category_id, pair_count) "
+              + "VALUES (:categoryId, :otherId, 1) ON DUPLICATE KEY UPDATE pair_count = pair_count + 1",
+      nativeQuery = true)
+  void increment(@Param("categoryId") Long categoryId, @Param("otherId") Long otherId);
+}
@@ -0,0 +1,35 @@
+package com.festivo.recommendations;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * A confirmed booking whose vendor and category have been counted into the co-occurrence
+ * matrices. Makes counting idempotent and lets a later booking in the same event pair against the
+ * earlier ones without re-reading the bookings table.
+ */
+@Getter
+@Setter
+@Entity
+@Table(
+    name = "cooccurrence_bookings",
+    indexes = @Index(name = "idx_cooccurrence_booking_event", columnList = "event_id"))
+public class CountedBooking {
+  @Id
+  @Column(name = "booking_id")
+  private Long bookingId;
+
+  @Column(name = "event_id", nullable = false)
+  private Long eventId;
+
+  @Column(name = "vendor_id", nullable = false)
+  private Long vendorId;
+
+  @Column(name = "category_id")
+  private Long categoryId;
+}
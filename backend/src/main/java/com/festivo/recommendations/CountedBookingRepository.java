@@ -0,0 +1,8 @@
+package com.festivo.recommendations;
+
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CountedBookingRepository extends JpaRepository<CountedBooking, Long> {
+  List<CountedBooking> findByEventId(Long eventId);
+}
@@ -0,0 +1,4 @@
+package com.festivo.recommendations;
+
+/** A vendor or category and the number of events it was booked in together with the subject. */
+public record Recommendation(Long id, long count) {}
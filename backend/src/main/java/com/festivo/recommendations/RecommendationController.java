@@ -0,0 +1,33 @@
+package com.festivo.recommendations;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/recommendations")
+public class RecommendationController {
+  private static final int MAX_LIMIT = 20;
+
+  private final RecommendationService recommendationService;
+
+  @GetMapping("/vendors/{vendorId}")
+  public List<Recommendation> vendors(@PathVariable Long vendorId, @RequestParam(defaultValue = "10") int limit) {
+    return recommendationService.forVendor(vendorId, clamp(limit));
+  }
+
+  @GetMapping("/categories/{categoryId}")
+  public List<Recommendation> categories(
+      @PathVariable Long categoryId, @RequestParam(defaultValue = "10") int limit) {
+    return recommendationService.forCategory(categoryId, clamp(limit));
+  }
+
+  private static int clamp(int limit) {
+    return Math.max(1, Math.min(limit, MAX_LIMIT));
+  }
+}
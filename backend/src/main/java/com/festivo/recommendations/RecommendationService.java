@@ -0,0 +1,206 @@
+package com.festivo.recommendations;
+
+import com.festivo.bookings.Booking;
+import com.festivo.bookings.BookingChangedEvent;
+import com.festivo.bookings.BookingRepository;
+import com.festivo.bookings.BookingStatus;
+import com.festivo.events.EventRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * "Frequently booked together" from sparse vendor x vendor and category x category co-occurrence
+ * counts, where a pair counts once per event in which both sides have a confirmed booking. Counts
+ * grow incrementally as bookings are confirmed and every cell is kept, so a new partner can still
+ * climb into a full row. Reads serve a row's {@link #SERVED_PER_ROW} strongest cells from a per-row
+ * cache, so a lookup is one hash probe once warm. Other nodes pick up new counts when their cache
+ * entry expires.
+ */
+@Slf4j
+@Service
+public class RecommendationService {
+  static final int SERVED_PER_ROW = 50;
+  private static final int MAX_ATTEMPTS = 3;
+
+  private final BookingRepository bookingRepository;
+  private final EventRepository eventRepository;
+  private final CountedBookingRepository countedRepository;
+  private final VendorCooccurrenceRepository vendorRepository;
+  private final CategoryCooccurrenceRepository categoryRepository;
+  private final Cache<Long, List<Recommendation>> vendorRows;
+  private final Cache<Long, List<Recommendation>> categoryRows;
+  private final TransactionTemplate transactionTemplate;
+
+  public RecommendationService(
+      BookingRepository bookingRepository,
+      EventRepository eventRepository,
+      CountedBookingRepository countedRepository,
+      VendorCooccurrenceRepository vendorRepository,
+      CategoryCooccurrenceRepository categoryRepository,
+      MeterRegistry meterRegistry,
+      PlatformTransactionManager transactionManager,
+      @Value("${festivo.recommendations.cache-ttl}") Duration cacheTtl) {
+    this.bookingRepository = bookingRepository;
+    this.eventRepository = eventRepository;
+    this.countedRepository = countedRepository;
+    this.vendorRepository = vendorRepository;
+    this.categoryRepository = categoryRepository;
+    this.vendorRows = Caffeine.newBuilder().maximumSize(10_000).expireAfterWrite(cacheTtl).recordStats().build();
+    this.categoryRows = Caffeine.newBuilder().maximumSize(1_000).expireAfterWrite(cacheTtl).recordStats().build();
+    CaffeineCacheMetrics.monitor(meterRegistry, vendorRows, "vendorRecommendations");
+    CaffeineCacheMetrics.monitor(meterRegistry, categoryRows, "categoryRecommendations");
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  @Transactional(readOnly = true)
+  public List<Recommendation> forVendor(Long vendorId, int limit) {
+    List<Recommendation> row =
+        vendorRows.get(
+            vendorId,
+            id ->
+                vendorRepository
+                    .findByVendorIdOrderByPairCountDescOtherVendorIdAsc(id, Limit.of(SERVED_PER_ROW))
+                    .stream()
+                    .map(cell -> new Recommendation(cell.getOtherVendorId(), cell.getPairCount()))
+                    .toList());
+    return row.subList(0, Math.min(limit, row.size()));
+  }
+
+  @Transactional(readOnly = true)
+  public List<Recommendation> forCategory(Long categoryId, int limit) {
+    List<Recommendation> row =
+        categoryRows.get(
+            categoryId,
+            id ->
+                categoryRepository
+                    .findByCategoryIdOrderByPairCountDescOtherCategoryIdAsc(id, Limit.of(SERVED_PER_ROW))
+                    .stream()
+                    .map(cell -> new Recommendation(cell.getOtherCategoryId(), cell.getPairCount()))
+                    .toList());
+    return row.subList(0, Math.min(limit, row.size()));
+  }
+
+  /**
+   * Counts a newly confirmed booking against the bookings of its event counted before it. The event
+   * row is locked so two confirmations in one event are counted one after the other, and a booking
+   * that was already counted is skipped, so replays and later status changes add nothing.
+   *
+   * <p>This runs after the booking change committed, so a failure here must not reach its caller.
+   * Cells are upserted in ascending key order so concurrent events take row locks in the same order;
+   * a lock failure that still happens is retried, and anything else is logged and the count lost.
+   * Cached rows are dropped only after the count commits, so a concurrent read cannot cache the old
+   * counts again.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onBookingChanged(BookingChangedEvent event) {
+    if (event.bookingId() == null
+        || event.vendorId() == null
+        || (event.status() != BookingStatus.CONFIRMED && event.status() != BookingStatus.COMPLETED)) {
+      return;
+    }
+    for (int attempt = 1; ; attempt++) {
+      try {
+        Touched touched = transactionTemplate.execute(status -> count(event));
+        vendorRows.invalidateAll(touched.vendors());
+        categoryRows.invalidateAll(touched.categories());
+        return;
+      } catch (PessimisticLockingFailureException ex) {
+        if (attempt == MAX_ATTEMPTS) {
+          log.error("Gave up counting booking {} for recommendations", event.bookingId(), ex);
+          return;
+        }
+      } catch (RuntimeException ex) {
+        log.error("Could not count booking {} for recommendations", event.bookingId(), ex);
+        return;
+      }
+    }
+  }
+
+  /** Counts the booking and returns the rows whose cells changed. */
+  private Touched count(BookingChangedEvent event) {
+    Booking booking = bookingRepository.findById(event.bookingId()).orElse(null);
+    if (booking == null || booking.getEvent() == null) {
+      return Touched.NONE;
+    }
+    Long eventId = booking.getEvent().getId();
+    eventRepository.lockById(eventId);
+    if (countedRepository.existsById(booking.getId())) {
+      return Touched.NONE;
+    }
+    List<CountedBooking> earlier = countedRepository.findByEventId(eventId);
+    CountedBooking counted = new CountedBooking();
+    counted.setBookingId(booking.getId());
+    counted.setEventId(eventId);
+    counted.setVendorId(event.vendorId());
+    counted.setCategoryId(
+        booking.getService() != null && booking.getService().getCategory() != null
+            ? booking.getService().getCategory().getId()
+            : null);
+    countedRepository.save(counted);
+
+    Set<Long> vendors = others(earlier, counted, CountedBooking::getVendorId);
+    cells(counted.getVendorId(), vendors).forEach(cell -> vendorRepository.increment(cell[0], cell[1]));
+    Set<Long> categories = others(earlier, counted, CountedBooking::getCategoryId);
+    cells(counted.getCategoryId(), categories).forEach(cell -> categoryRepository.increment(cell[0], cell[1]));
+    return new Touched(withOwn(vendors, counted.getVendorId()), withOwn(categories, counted.getCategoryId()));
+  }
+
+  /**
+   * Distinct keys of the earlier bookings to pair with, or none when the new booking's key already
+   * appears among them, since that pair was counted for this event already.
+   */
+  private static Set<Long> others(
+      List<CountedBooking> earlier, CountedBooking counted, Function<CountedBooking, Long> key) {
+    Long own = key.apply(counted);
+    if (own == null || earlier.stream().map(key).anyMatch(own::equals)) {
+      return Set.of();
+    }
+    return earlier.stream().map(key).filter(Objects::nonNull).collect(Collectors.toSet());
+  }
+
+  /** Both cells of each pair of {@code own} with one of {@code others}, in ascending (row, column) order. */
+  private static List<long[]> cells(Long own, Set<Long> others) {
+    List<long[]> cells = new ArrayList<>(others.size() * 2);
+    for (Long other : others) {
+      cells.add(new long[] {own, other});
+      cells.add(new long[] {other, own});
+    }
+    cells.sort(Comparator.<long[]>comparingLong(cell -> cell[0]).thenComparingLong(cell -> cell[1]));
+    return cells;
+  }
+
+  private static Set<Long> withOwn(Set<Long> others, Long own) {
+    if (others.isEmpty()) {
+      return others;
+    }
+    Set<Long> touched = new TreeSet<>(others);
+    touched.add(own);
+    return touched;
+  }
+
+  private record Touched(Set<Long> vendors, Set<Long> categories) {
+    static final Touched NONE = new Touched(Set.of(), Set.of());
+  }
+}
@@ -0,0 +1,36 @@
+package com.festivo.recommendations;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+/** One non-zero cell of the vendor x vendor matrix: events in which both vendors were booked. */
+@Getter
+@Setter
+@Entity
+@Table(
+    name = "vendor_cooccurrences",
+    uniqueConstraints =
+        @UniqueConstraint(name = "uk_vendor_cooccurrence", columnNames = {"vendor_id", "other_vendor_id"}),
+    indexes = @Index(name = "idx_vendor_cooccurrence_rank", columnList = "vendor_id, pair_count"))
+public class VendorCooccurrence {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "vendor_id", nullable = false)
+  private Long vendorId;
+
+  @Column(name = "other_vendor_id", nullable = false)
+  private Long otherVendorId;
+
+  @Column(name = "pair_count", nullable = false)
+  private long pairCount;
+}
@@ -0,0 +1,28 @@
+package com.festivo.recommendations;
+
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface VendorCooccurrenceRepository extends JpaRepository<VendorCooccurrence, Long> {
+  List<VendorCooccurrence> findByVendorIdOrderByPairCountDescOtherVendorIdAsc(Long vendorId, Limit limit);
+
+  /**
+   * Atomic upsert, so concurrent confirmations in different events never lose a count. The query
+   * space keeps Hibernate from evicting every second-level region after a native write.
+   */
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "vendor_cooccurrences"))
+  @Query(
+      value =
+          "INSERT INTO vendor_cooccurrences (vendor_id, other_vendor_id, pair_count) VALUES (:vendorId, :otherId, 1) "
+              + "ON DUPLICATE KEY UPDATE pair_count = pair_count + 1",
+      nativeQuery = true)
+  void increment(@Param("vendorId") Long vendorId, @Param("otherId") Long otherId);
+}
@@ -35,5 +35,10 @@ public class AdminController {
     return Map.of("status", "verified");
   }
 
+  @PostMapping("/vendors/ratings/rebuild")
+  public Map<String, Integer> rebuildRatings() {
+    return Map.of("repaired", adminService.rebuildRatings());
+  }
+
   public record ResolutionRequest(String notes, String status) {}
 }
@@ -1,6 +1,7 @@
 package com.festivo.services;
 
 import com.festivo.common.exception.ResourceNotFoundException;
+import com.festivo.vendors.ReviewService;
 import com.festivo.vendors.VendorService;
 import jakarta.transaction.Transactional;
 import java.util.List;
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Service;
 public class AdminService {
   private final DisputeRepository disputeRepository;
   private final VendorService vendorService;
+  private final ReviewService reviewService;
 
   public List<Dispute> allDisputes() {
     return disputeRepository.findAll();
@@ -31,4 +33,8 @@ public class AdminService {
   public void verifyVendor(Long vendorId) {
     vendorService.verify(vendorId);
   }
+
+  public int rebuildRatings() {
+    return reviewService.rebuild();
+  }
 }
@@ -25,7 +25,7 @@ public class PlannerDashboardController {
     var bookings = bookingService.forEvent(eventId);
     var upcoming =
         bookings.stream()
-            .filter(b -> b.getStatus() != com.festivo.bookings.BookingStatus.CANCELLED)
+            .filter(b -> b.getStatus().occupiesSlot())
             .sorted(java.util.Comparator.comparing(com.festivo.bookings.Booking::getStartTime))
             .limit(5)
             .collect(Collectors.toList());
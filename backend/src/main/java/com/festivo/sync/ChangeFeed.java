@@ -0,0 +1,9 @@
+package com.festivo.sync;
+
+import java.util.List;
+
+/**
+ * Rows inserted or updated and ids deleted since the request's token. Pass {@code next} back as
+ * {@code since}; when {@code hasMore} is set, call again right away to catch up.
+ */
+public record ChangeFeed<T>(List<T> changed, List<Long> deleted, String next, boolean hasMore) {}
@@ -0,0 +1,50 @@
+package com.festivo.sync;
+
+import com.festivo.bookings.Booking;
+import com.festivo.common.security.Roles;
+import com.festivo.messaging.Message;
+import com.festivo.vendors.Vendor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/sync")
+public class SyncController {
+  private static final int MAX_PAGE_SIZE = 500;
+
+  private final SyncService syncService;
+
+  @GetMapping("/vendors")
+  public ChangeFeed<Vendor> vendors(
+      @RequestParam(required = false) String since, @RequestParam(defaultValue = "200") int limit) {
+    return syncService.vendors(since, clamp(limit));
+  }
+
+  @GetMapping("/events/{eventId}/bookings")
+  @PreAuthorize("hasAnyAuthority('" + Roles.CUSTOMER + "','" + Roles.ADMIN + "')")
+  public ChangeFeed<Booking> eventBookings(
+      @PathVariable Long eventId,
+      @RequestParam(required = false) String since,
+      @RequestParam(defaultValue = "200") int limit) {
+    return syncService.eventBookings(eventId, since, clamp(limit));
+  }
+
+  @GetMapping("/bookings/{bookingId}/messages")
+  @PreAuthorize("hasAnyAuthority('" + Roles.CUSTOMER + "','" + Roles.VENDOR + "','" + Roles.ADMIN + "')")
+  public ChangeFeed<Message> bookingMessages(
+      @PathVariable Long bookingId,
+      @RequestParam(required = false) String since,
+      @RequestParam(defaultValue = "200") int limit) {
+    return syncService.bookingMessages(bookingId, since, clamp(limit));
+  }
+
+  private static int clamp(int limit) {
+    return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+  }
+}
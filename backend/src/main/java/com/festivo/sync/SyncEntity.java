@@ -0,0 +1,7 @@
+package com.festivo.sync;
+
+public enum SyncEntity {
+  VENDOR,
+  BOOKING,
+  MESSAGE
+}
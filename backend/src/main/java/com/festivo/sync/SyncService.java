@@ -0,0 +1,93 @@
+package com.festivo.sync;
+
+import com.festivo.bookings.Booking;
+import com.festivo.bookings.BookingRepository;
+import com.festivo.common.model.AuditableEntity;
+import com.festivo.messaging.Message;
+import com.festivo.messaging.MessageRepository;
+import com.festivo.vendors.Vendor;
+import com.festivo.vendors.VendorRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keyset feeds over {@code (updatedAt, id)}. Timestamps are taken in the application before
+ * commit, so a row can become visible with a timestamp older than rows already handed out. Feeds
+ * therefore stop {@code settleLag} short of now, and a transaction that runs longer than that can
+ * still be missed until the row changes again.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SyncService {
+  private final VendorRepository vendorRepository;
+  private final BookingRepository bookingRepository;
+  private final MessageRepository messageRepository;
+  private final TombstoneRepository tombstoneRepository;
+  private final Duration settleLag;
+
+  public SyncService(
+      VendorRepository vendorRepository,
+      BookingRepository bookingRepository,
+      MessageRepository messageRepository,
+      TombstoneRepository tombstoneRepository,
+      @Value("${festivo.sync.settle-lag}") Duration settleLag) {
+    this.vendorRepository = vendorRepository;
+    this.bookingRepository = bookingRepository;
+    this.messageRepository = messageRepository;
+    this.tombstoneRepository = tombstoneRepository;
+    this.settleLag = settleLag;
+  }
+
+  public ChangeFeed<Vendor> vendors(String since, int limit) {
+    return feed(SyncEntity.VENDOR, null, since, limit, vendorRepository::findChangedSince);
+  }
+
+  public ChangeFeed<Booking> eventBookings(Long eventId, String since, int limit) {
+    return feed(
+        SyncEntity.BOOKING,
+        eventId,
+        since,
+        limit,
+        (from, afterId, until, max) -> bookingRepository.findEventChangesSince(eventId, from, afterId, until, max));
+  }
+
+  public ChangeFeed<Message> bookingMessages(Long bookingId, String since, int limit) {
+    return feed(
+        SyncEntity.MESSAGE,
+        bookingId,
+        since,
+        limit,
+        (from, afterId, until, max) -> messageRepository.findChangedSince(bookingId, from, afterId, until, max));
+  }
+
+  private <T extends AuditableEntity> ChangeFeed<T> feed(
+      SyncEntity type, Long scopeId, String since, int limit, ChangeQuery<T> query) {
+    SyncToken token = SyncToken.decode(since);
+    Instant until = Instant.now().minus(settleLag);
+    List<T> changed = query.find(token.rowsSince(), token.rowsAfterId(), until, Limit.of(limit));
+    List<Tombstone> deleted =
+        tombstoneRepository.findChangedSince(
+            type, scopeId, token.deletesSince(), token.deletesAfterId(), until, Limit.of(limit));
+    SyncToken next =
+        new SyncToken(
+            changed.isEmpty() ? token.rowsSince() : changed.get(changed.size() - 1).getUpdatedAt(),
+            changed.isEmpty() ? token.rowsAfterId() : changed.get(changed.size() - 1).getId(),
+            deleted.isEmpty() ? token.deletesSince() : deleted.get(deleted.size() - 1).getUpdatedAt(),
+            deleted.isEmpty() ? token.deletesAfterId() : deleted.get(deleted.size() - 1).getId());
+    return new ChangeFeed<>(
+        changed,
+        deleted.stream().map(Tombstone::getEntityId).toList(),
+        next.encode(),
+        changed.size() == limit || deleted.size() == limit);
+  }
+
+  @FunctionalInterface
+  private interface ChangeQuery<T> {
+    List<T> find(Instant since, long afterId, Instant until, Limit limit);
+  }
+}
@@ -0,0 +1,35 @@
+package com.festivo.sync;
+
+import com.festivo.common.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * High-water marks of a feed: the {@code (updatedAt, id)} of the last changed row and of the last
+ * tombstone returned. The two streams page independently. Clients only see the opaque form.
+ */
+record SyncToken(Instant rowsSince, long rowsAfterId, Instant deletesSince, long deletesAfterId) {
+  static final SyncToken START = new SyncToken(Instant.EPOCH, 0, Instant.EPOCH, 0);
+
+  static SyncToken decode(String token) {
+    if (token == null || token.isBlank()) {
+      return START;
+    }
+    try {
+      String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+      if (parts.length != 4) {
+        throw new BadRequestException("Invalid sync token");
+      }
+      return new SyncToken(
+          Instant.parse(parts[0]), Long.parseLong(parts[1]), Instant.parse(parts[2]), Long.parseLong(parts[3]));
+    } catch (RuntimeException ex) {
+      throw new BadRequestException("Invalid sync token");
+    }
+  }
+
+  String encode() {
+    String raw = rowsSince + "|" + rowsAfterId + "|" + deletesSince + "|" + deletesAfterId;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,31 @@
+package com.festivo.sync;
+
+import com.festivo.common.model.AuditableEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/** Marks a hard-deleted row so that delta-sync clients learn about the delete. */
+@Getter
+@Setter
+@Entity
+@Table(
+    name = "sync_tombstones",
+    indexes = @Index(name = "idx_tombstone_feed", columnList = "entity_type, scope_id, updated_at, id"))
+public class Tombstone extends AuditableEntity {
+  @Enumerated(EnumType.STRING)
+  @Column(name = "entity_type", nullable = false, length = 32)
+  private SyncEntity entityType;
+
+  @Column(name = "entity_id", nullable = false)
+  private Long entityId;
+
+  /** Parent the deleted row was listed under, such as the booking of a message; null for top-level rows. */
+  @Column(name = "scope_id")
+  private Long scopeId;
+}
@@ -0,0 +1,23 @@
+package com.festivo.sync;
+
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+  @Query(
+      "SELECT t FROM Tombstone t WHERE t.entityType = :type "
+          + "AND ((:scopeId IS NULL AND t.scopeId IS NULL) OR t.scopeId = :scopeId) "
+          + "AND (t.updatedAt > :since OR (t.updatedAt = :since AND t.id > :afterId)) AND t.updatedAt <= :until "
+          + "ORDER BY t.updatedAt, t.id")
+  List<Tombstone> findChangedSince(
+      @Param("type") SyncEntity type,
+      @Param("scopeId") Long scopeId,
+      @Param("since") Instant since,
+      @Param("afterId") long afterId,
+      @Param("until") Instant until,
+      Limit limit);
+}
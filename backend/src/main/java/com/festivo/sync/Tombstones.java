@@ -0,0 +1,19 @@
+package com.festivo.sync;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/** Call from the transaction that deletes the row, so the tombstone commits or rolls back with it. */
+@Component
+@RequiredArgsConstructor
+public class Tombstones {
+  private final TombstoneRepository tombstoneRepository;
+
+  public void record(SyncEntity type, Long entityId, Long scopeId) {
+    Tombstone tombstone = new Tombstone();
+    tombstone.setEntityType(type);
+    tombstone.setEntityId(entityId);
+    tombstone.setScopeId(scopeId);
+    tombstoneRepository.save(tombstone);
+  }
+}
@@ -0,0 +1,214 @@
+package com.festivo.vendors;
+
+import com.festivo.bookings.BookingChangedEvent;
+import com.festivo.bookings.BookingRepository;
+import com.festivo.bookings.BookingSlot;
+import com.festivo.common.exception.BadRequestException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * One bitset per UTC day with a bit set for every vendor that is busy that day, either through a
+ * non-cancelled booking touching the day or a schedule block covering it. Vendor ids are dense
+ * auto-increment keys, so each day costs about one bit per vendor and days nobody is busy cost
+ * nothing. Built on first use from today onward and kept current from booking, schedule and vendor
+ * events. Days before today are dropped on the first read after midnight UTC.
+ */
+@Component
+@RequiredArgsConstructor
+public class AvailabilityBitmapIndex {
+  private final BookingRepository bookingRepository;
+  private final VendorScheduleBlockRepository scheduleRepository;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<LocalDate, BitSet> busyByDay = new HashMap<>();
+  private final Map<Long, Map<Long, DayRange>> bookingDays = new HashMap<>();
+  private final Map<Long, List<DayRange>> blockDays = new HashMap<>();
+  private boolean loaded;
+  private LocalDate horizon;
+
+  /** Vendors busy on {@code date}; days before today are no longer tracked and are rejected. */
+  public BitSet busyOn(LocalDate date) {
+    ensureLoaded();
+    lock.readLock().lock();
+    try {
+      if (date.isBefore(horizon)) {
+        throw new BadRequestException("Availability can only be checked from today (UTC) onward");
+      }
+      BitSet busy = busyByDay.get(date);
+      return busy == null ? new BitSet() : (BitSet) busy.clone();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onBookingChanged(BookingChangedEvent event) {
+    if (event.vendorId() == null || event.bookingId() == null) {
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      if (!loaded) {
+        return;
+      }
+      Map<Long, DayRange> bookings = bookingDays.computeIfAbsent(event.vendorId(), id -> new HashMap<>());
+      DayRange previous;
+      if (!event.status().occupiesSlot()) {
+        previous = bookings.remove(event.bookingId());
+      } else {
+        DayRange current = DayRange.of(event.startTime(), event.endTime());
+        previous = bookings.put(event.bookingId(), current);
+        refresh(event.vendorId(), current);
+      }
+      if (previous != null) {
+        refresh(event.vendorId(), previous);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onVendorChanged(VendorChangedEvent event) {
+    if (!event.deleted()) {
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      if (!loaded) {
+        return;
+      }
+      bookingDays.remove(event.vendorId());
+      blockDays.remove(event.vendorId());
+      int bit = Math.toIntExact(event.vendorId());
+      busyByDay.values().forEach(busy -> busy.clear(bit));
+      busyByDay.values().removeIf(BitSet::isEmpty);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onScheduleChanged(VendorScheduleChangedEvent event) {
+    lock.writeLock().lock();
+    try {
+      if (!loaded) {
+        return;
+      }
+      List<DayRange> current =
+          event.blocks().stream().map(span -> new DayRange(span.startDate(), span.endDate())).toList();
+      List<DayRange> previous = blockDays.put(event.vendorId(), current);
+      if (previous != null) {
+        previous.forEach(range -> refresh(event.vendorId(), range));
+      }
+      current.forEach(range -> refresh(event.vendorId(), range));
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void ensureLoaded() {
+    LocalDate today = LocalDate.now(ZoneOffset.UTC);
+    lock.readLock().lock();
+    try {
+      if (loaded && !today.isAfter(horizon)) {
+        return;
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    lock.writeLock().lock();
+    try {
+      if (loaded && !today.isAfter(horizon)) {
+        return;
+      }
+      if (loaded) {
+        prune(today);
+        return;
+      }
+      horizon = today;
+      OffsetDateTime horizon = today.atStartOfDay().atOffset(ZoneOffset.UTC);
+      for (BookingSlot slot : bookingRepository.findActiveSlotsEndingAfter(horizon)) {
+        DayRange range = DayRange.of(slot.startTime(), slot.endTime());
+        bookingDays.computeIfAbsent(slot.vendorId(), id -> new HashMap<>()).put(slot.id(), range);
+        mark(slot.vendorId(), range);
+      }
+      for (ScheduleBlockSpan span : scheduleRepository.findSpansEndingOnOrAfter(today)) {
+        DayRange range = new DayRange(span.startDate(), span.endDate());
+        blockDays.computeIfAbsent(span.vendorId(), id -> new ArrayList<>()).add(range);
+        mark(span.vendorId(), range);
+      }
+      loaded = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** Drops days before {@code today} along with the bookings and blocks that end before it. */
+  private void prune(LocalDate today) {
+    busyByDay.keySet().removeIf(day -> day.isBefore(today));
+    bookingDays.values().forEach(bookings -> bookings.values().removeIf(range -> range.last().isBefore(today)));
+    bookingDays.values().removeIf(Map::isEmpty);
+    blockDays.replaceAll(
+        (vendorId, ranges) -> ranges.stream().filter(range -> !range.last().isBefore(today)).toList());
+    blockDays.values().removeIf(List::isEmpty);
+    horizon = today;
+  }
+
+  private void mark(Long vendorId, DayRange range) {
+    int bit = Math.toIntExact(vendorId);
+    for (LocalDate day = firstTracked(range); !day.isAfter(range.last()); day = day.plusDays(1)) {
+      busyByDay.computeIfAbsent(day, d -> new BitSet()).set(bit);
+    }
+  }
+
+  private void refresh(Long vendorId, DayRange range) {
+    int bit = Math.toIntExact(vendorId);
+    for (LocalDate day = firstTracked(range); !day.isAfter(range.last()); day = day.plusDays(1)) {
+      if (isCovered(vendorId, day)) {
+        busyByDay.computeIfAbsent(day, d -> new BitSet()).set(bit);
+      } else {
+        BitSet busy = busyByDay.get(day);
+        if (busy != null) {
+          busy.clear(bit);
+          if (busy.isEmpty()) {
+            busyByDay.remove(day);
+          }
+        }
+      }
+    }
+  }
+
+  private LocalDate firstTracked(DayRange range) {
+    return range.first().isBefore(horizon) ? horizon : range.first();
+  }
+
+  private boolean isCovered(Long vendorId, LocalDate day) {
+    return bookingDays.getOrDefault(vendorId, Map.of()).values().stream().anyMatch(range -> range.contains(day))
+        || blockDays.getOrDefault(vendorId, List.of()).stream().anyMatch(range -> range.contains(day));
+  }
+
+  private record DayRange(LocalDate first, LocalDate last) {
+    static DayRange of(OffsetDateTime start, OffsetDateTime end) {
+      LocalDate first = start.atZoneSameInstant(ZoneOffset.UTC).toLocalDate();
+      LocalDate last = end.minusNanos(1).atZoneSameInstant(ZoneOffset.UTC).toLocalDate();
+      return new DayRange(first, last.isBefore(first) ? first : last);
+    }
+
+    boolean contains(LocalDate day) {
+      return !day.isBefore(first) && !day.isAfter(last);
+    }
+  }
+}
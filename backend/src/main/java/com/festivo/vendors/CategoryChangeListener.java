@@ -0,0 +1,27 @@
+package com.festivo.vendors;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Publishes a {@link CategoryChangedEvent} for every category written through JPA, so listeners
+ * see it after the transaction commits. Created by Spring while the entity manager factory is
+ * being built, so the publisher is looked up on first use.
+ */
+public class CategoryChangeListener {
+  private final ObjectProvider<ApplicationEventPublisher> publisher;
+
+  public CategoryChangeListener(ObjectProvider<ApplicationEventPublisher> publisher) {
+    this.publisher = publisher;
+  }
+
+  @PostPersist
+  @PostUpdate
+  @PostRemove
+  void changed(ServiceCategory category) {
+    publisher.ifAvailable(target -> target.publishEvent(new CategoryChangedEvent(category.getId())));
+  }
+}
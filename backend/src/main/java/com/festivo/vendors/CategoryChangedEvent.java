@@ -0,0 +1,3 @@
+package com.festivo.vendors;
+
+public record CategoryChangedEvent(Long categoryId) {}
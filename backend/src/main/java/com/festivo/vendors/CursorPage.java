@@ -0,0 +1,6 @@
+package com.festivo.vendors;
+
+import java.util.List;
+
+/** One page of a keyset-paginated listing; {@code nextCursor} is null on the last page. */
+public record CursorPage<T>(List<T> content, String nextCursor) {}
@@ -0,0 +1,46 @@
+package com.festivo.vendors;
+
+public record GeoFilter(
+    double minLatitude,
+    double minLongitude,
+    double maxLatitude,
+    double maxLongitude,
+    double centerLatitude,
+    double centerLongitude,
+    Double radiusKm) {
+  private static final double KM_PER_DEGREE = 111.32;
+
+  public static GeoFilter radius(double latitude, double longitude, double radiusKm) {
+    double latDelta = radiusKm / KM_PER_DEGREE;
+    double lngDelta = radiusKm / (KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+    return new GeoFilter(
+        Math.max(-90, latitude - latDelta),
+        Math.max(-180, longitude - lngDelta),
+        Math.min(90, latitude + latDelta),
+        Math.min(180, longitude + lngDelta),
+        latitude,
+        longitude,
+        radiusKm);
+  }
+
+  public static GeoFilter box(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+    return new GeoFilter(
+        minLatitude,
+        minLongitude,
+        maxLatitude,
+        maxLongitude,
+        (minLatitude + maxLatitude) / 2,
+        (minLongitude + maxLongitude) / 2,
+        null);
+  }
+
+  public boolean contains(double latitude, double longitude, double distanceKm) {
+    if (radiusKm != null) {
+      return distanceKm <= radiusKm;
+    }
+    return latitude >= minLatitude
+        && latitude <= maxLatitude
+        && longitude >= minLongitude
+        && longitude <= maxLongitude;
+  }
+}
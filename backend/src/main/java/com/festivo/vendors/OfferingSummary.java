@@ -0,0 +1,6 @@
+package com.festivo.vendors;
+
+import java.math.BigDecimal;
+
+public record OfferingSummary(
+    Long id, Long vendorId, Long categoryId, String title, String description, BigDecimal price) {}
@@ -0,0 +1,3 @@
+package com.festivo.vendors;
+
+public record RankedVendor(Long vendorId, boolean verified, Double rankingScore) {}
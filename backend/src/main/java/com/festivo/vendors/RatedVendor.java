@@ -0,0 +1,3 @@
+package com.festivo.vendors;
+
+public record RatedVendor(Long vendorId, Double rating) {}
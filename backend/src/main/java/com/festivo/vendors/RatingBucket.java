@@ -0,0 +1,3 @@
+package com.festivo.vendors;
+
+public record RatingBucket(Long vendorId, int rating, long count) {}
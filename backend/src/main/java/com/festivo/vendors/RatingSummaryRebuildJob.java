@@ -0,0 +1,40 @@
+package com.festivo.vendors;
+
+import com.festivo.common.lock.ClusterLockProvider;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** Nightly repair of rating summaries; only the node holding the cluster lock runs it. */
+@Slf4j
+@Component
+public class RatingSummaryRebuildJob {
+  private static final String LOCK = "festivo:rating-summary-rebuild";
+
+  private final ReviewService reviewService;
+  private final ClusterLockProvider clusterLocks;
+  private final TransactionTemplate leadership;
+
+  public RatingSummaryRebuildJob(
+      ReviewService reviewService, ClusterLockProvider clusterLocks, PlatformTransactionManager transactionManager) {
+    this.reviewService = reviewService;
+    this.clusterLocks = clusterLocks;
+    this.leadership = new TransactionTemplate(transactionManager);
+  }
+
+  @Scheduled(cron = "${festivo.ratings.rebuild-cron}", zone = "UTC")
+  public void rebuild() {
+    leadership.executeWithoutResult(
+        status -> {
+          if (!clusterLocks.lockForTransaction(LOCK, Duration.ZERO)) {
+            log.debug("Rating summary rebuild is running on another node");
+            return;
+          }
+          int repaired = reviewService.rebuild();
+          log.info("Rebuilt vendor rating summaries, {} repaired", repaired);
+        });
+  }
+}
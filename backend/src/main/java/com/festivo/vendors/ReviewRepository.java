@@ -1,8 +1,10 @@
 package com.festivo.vendors;
 
+import com.festivo.common.model.ChangeStamp;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
   List<Review> findByVendorId(Long vendorId);
@@ -10,6 +12,16 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
   @Query("SELECT AVG(r.rating) FROM Review r WHERE r.vendor.id = :vendorId")
   Double calculateAverageRating(Long vendorId);
 
+  @Query(
+      "SELECT new com.festivo.vendors.RatingBucket(r.vendor.id, r.rating, COUNT(r)) FROM Review r "
+          + "GROUP BY r.vendor.id, r.rating")
+  List<RatingBucket> countByVendorAndRating();
+
   @Query("SELECT AVG(r.rating) FROM Review r")
   Double calculateGlobalAverageRating();
+
+  @Query(
+      "SELECT new com.festivo.common.model.ChangeStamp(MAX(r.updatedAt), COUNT(r)) FROM Review r "
+          + "WHERE r.vendor.id = :vendorId")
+  ChangeStamp changeStampByVendorId(@Param("vendorId") Long vendorId);
 }
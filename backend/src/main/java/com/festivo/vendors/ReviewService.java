@@ -0,0 +1,216 @@
+package com.festivo.vendors;
+
+import com.festivo.bookings.Booking;
+import com.festivo.bookings.BookingRepository;
+import com.festivo.common.exception.ResourceNotFoundException;
+import com.festivo.common.model.ChangeStamp;
+import com.festivo.users.User;
+import com.festivo.users.UserRepository;
+import jakarta.transaction.Transactional;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+/**
+ * Review writes go through here so that each vendor's {@link VendorRatingSummary} and
+ * {@link Vendor#getRating()} are adjusted in the same transaction, under a row lock on the summary.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ReviewService {
+  private final ReviewRepository reviewRepository;
+  private final VendorRatingSummaryRepository summaryRepository;
+  private final VendorRepository vendorRepository;
+  private final BookingRepository bookingRepository;
+  private final UserRepository userRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  public List<Review> forVendor(Long vendorId) {
+    return reviewRepository.findByVendorId(vendorId);
+  }
+
+  public ChangeStamp changeStamp(Long vendorId) {
+    return reviewRepository.changeStampByVendorId(vendorId);
+  }
+
+  public Review create(Long vendorId, String reviewerExternalId, Long bookingId, int rating, String comment) {
+    Vendor vendor =
+        vendorRepository
+            .findById(vendorId)
+            .orElseThrow(() -> new ResourceNotFoundException("Vendor not found"));
+    User reviewer =
+        userRepository
+            .findByExternalId(reviewerExternalId)
+            .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    Review review = new Review();
+    review.setVendor(vendor);
+    review.setReviewer(reviewer);
+    if (bookingId != null) {
+      Booking booking =
+          bookingRepository
+              .findById(bookingId)
+              .filter(b -> b.getVendor() != null && b.getVendor().getId().equals(vendorId))
+              .orElseThrow(() -> new ResourceNotFoundException("Booking not found"));
+      review.setBooking(booking);
+    }
+    review.setRating(rating);
+    review.setComment(comment);
+    Review saved = reviewRepository.save(review);
+    applyDelta(vendor, 0, rating);
+    return saved;
+  }
+
+  public Review update(
+      Long vendorId, Long reviewId, String actorExternalId, boolean admin, int rating, String comment) {
+    Review review = getOwned(vendorId, reviewId, actorExternalId, admin);
+    int previous = review.getRating();
+    review.setRating(rating);
+    review.setComment(comment);
+    applyDelta(review.getVendor(), previous, rating);
+    return review;
+  }
+
+  public void delete(Long vendorId, Long reviewId, String actorExternalId, boolean admin) {
+    Review review = getOwned(vendorId, reviewId, actorExternalId, admin);
+    reviewRepository.delete(review);
+    applyDelta(review.getVendor(), review.getRating(), 0);
+  }
+
+  public VendorRating summary(Long vendorId) {
+    return summaryRepository
+        .findByVendorId(vendorId)
+        .map(ReviewService::toRating)
+        .orElseGet(() -> toRating(new VendorRatingSummary()));
+  }
+
+  /** Recomputes every summary and {@link Vendor#getRating()} from the reviews table. */
+  public int rebuild() {
+    Map<Long, List<RatingBucket>> buckets =
+        reviewRepository.countByVendorAndRating().stream()
+            .collect(Collectors.groupingBy(RatingBucket::vendorId));
+    Map<Long, VendorRatingSummary> summaries =
+        summaryRepository.findAll().stream()
+            .collect(Collectors.toMap(summary -> summary.getVendor().getId(), Function.identity()));
+    int repaired = 0;
+    for (Vendor vendor : vendorRepository.findAll()) {
+      VendorRatingSummary summary = summaries.get(vendor.getId());
+      List<RatingBucket> vendorBuckets = buckets.getOrDefault(vendor.getId(), List.of());
+      if (summary == null && vendorBuckets.isEmpty()) {
+        if (vendor.getRating() != null) {
+          vendor.setRating(null);
+          eventPublisher.publishEvent(VendorChangedEvent.updated(vendor.getId()));
+          repaired++;
+        }
+        continue;
+      }
+      if (summary == null) {
+        summary = new VendorRatingSummary();
+        summary.setVendor(vendor);
+      }
+      long[] before = snapshot(summary);
+      reset(summary);
+      for (RatingBucket bucket : vendorBuckets) {
+        adjust(summary, bucket.rating(), bucket.count());
+      }
+      Double rating = average(summary);
+      if (summary.getId() == null
+          || !Arrays.equals(before, snapshot(summary))
+          || !Objects.equals(rating, vendor.getRating())) {
+        repaired++;
+      }
+      summaryRepository.save(summary);
+      if (!Objects.equals(rating, vendor.getRating())) {
+        eventPublisher.publishEvent(VendorChangedEvent.updated(vendor.getId()));
+      }
+      vendor.setRating(rating);
+    }
+    return repaired;
+  }
+
+  /** Reviews can only be changed by their author or an admin; anyone else is told it does not exist. */
+  private Review getOwned(Long vendorId, Long reviewId, String actorExternalId, boolean admin) {
+    return reviewRepository
+        .findById(reviewId)
+        .filter(review -> review.getVendor() != null && review.getVendor().getId().equals(vendorId))
+        .filter(
+            review ->
+                admin
+                    || (review.getReviewer() != null
+                        && Objects.equals(review.getReviewer().getExternalId(), actorExternalId)))
+        .orElseThrow(() -> new ResourceNotFoundException("Review not found"));
+  }
+
+  private void applyDelta(Vendor vendor, int removedRating, int addedRating) {
+    summaryRepository.insertIfAbsent(vendor.getId(), Instant.now());
+    VendorRatingSummary summary =
+        summaryRepository
+            .lockByVendorId(vendor.getId())
+            .orElseThrow(() -> new IllegalStateException("Rating summary missing for vendor " + vendor.getId()));
+    if (removedRating > 0) {
+      adjust(summary, removedRating, -1);
+    }
+    if (addedRating > 0) {
+      adjust(summary, addedRating, 1);
+    }
+    vendor.setRating(average(summary));
+    eventPublisher.publishEvent(VendorChangedEvent.updated(vendor.getId()));
+  }
+
+  private static void adjust(VendorRatingSummary summary, int rating, long delta) {
+    summary.setReviewCount(summary.getReviewCount() + delta);
+    summary.setRatingSum(summary.getRatingSum() + rating * delta);
+    switch (rating) {
+      case 1 -> summary.setOneStar(summary.getOneStar() + delta);
+      case 2 -> summary.setTwoStars(summary.getTwoStars() + delta);
+      case 3 -> summary.setThreeStars(summary.getThreeStars() + delta);
+      case 4 -> summary.setFourStars(summary.getFourStars() + delta);
+      case 5 -> summary.setFiveStars(summary.getFiveStars() + delta);
+      default -> throw new IllegalArgumentException("Rating must be between 1 and 5");
+    }
+  }
+
+  private static void reset(VendorRatingSummary summary) {
+    summary.setReviewCount(0);
+    summary.setRatingSum(0);
+    summary.setOneStar(0);
+    summary.setTwoStars(0);
+    summary.setThreeStars(0);
+    summary.setFourStars(0);
+    summary.setFiveStars(0);
+  }
+
+  private static long[] snapshot(VendorRatingSummary summary) {
+    return new long[] {
+      summary.getReviewCount(),
+      summary.getRatingSum(),
+      summary.getOneStar(),
+      summary.getTwoStars(),
+      summary.getThreeStars(),
+      summary.getFourStars(),
+      summary.getFiveStars()
+    };
+  }
+
+  private static Double average(VendorRatingSummary summary) {
+    return summary.getReviewCount() > 0 ? (double) summary.getRatingSum() / summary.getReviewCount() : null;
+  }
+
+  private static VendorRating toRating(VendorRatingSummary summary) {
+    Map<Integer, Long> histogram = new LinkedHashMap<>();
+    histogram.put(1, summary.getOneStar());
+    histogram.put(2, summary.getTwoStars());
+    histogram.put(3, summary.getThreeStars());
+    histogram.put(4, summary.getFourStars());
+    histogram.put(5, summary.getFiveStars());
+    return new VendorRating(average(summary), summary.getReviewCount(), histogram);
+  }
+}
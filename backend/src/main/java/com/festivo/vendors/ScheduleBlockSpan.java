@@ -0,0 +1,5 @@
+package com.festivo.vendors;
+
+import java.time.LocalDate;
+
+public record ScheduleBlockSpan(Long vendorId, LocalDate startDate, LocalDate endDate) {}
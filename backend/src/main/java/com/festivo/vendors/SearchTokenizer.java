@@ -0,0 +1,37 @@
+package com.festivo.vendors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+final class SearchTokenizer {
+  private static final Set<String> STOP_WORDS =
+      Set.of("a", "an", "and", "at", "by", "for", "from", "in", "of", "on", "or", "the", "to", "with");
+
+  private SearchTokenizer() {}
+
+  static List<String> tokenize(String text) {
+    List<String> tokens = new ArrayList<>();
+    if (text == null || text.isBlank()) {
+      return tokens;
+    }
+    for (String raw : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+      if (raw.length() < 2 || STOP_WORDS.contains(raw)) {
+        continue;
+      }
+      tokens.add(stem(raw));
+    }
+    return tokens;
+  }
+
+  private static String stem(String token) {
+    if (token.length() > 4 && token.endsWith("ies")) {
+      return token.substring(0, token.length() - 3) + "y";
+    }
+    if (token.length() > 3 && token.endsWith("s") && !token.endsWith("ss")) {
+      return token.substring(0, token.length() - 1);
+    }
+    return token;
+  }
+}
@@ -1,16 +1,24 @@
 package com.festivo.vendors;
 
+import com.festivo.common.cache.CacheRegions;
 import com.festivo.common.model.AuditableEntity;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CATEGORIES)
 @Table(name = "service_categories")
+@EntityListeners(CategoryChangeListener.class)
 public class ServiceCategory extends AuditableEntity {
   @Column(nullable = false, unique = true)
   private String name;
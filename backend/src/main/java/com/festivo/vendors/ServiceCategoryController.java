@@ -0,0 +1,20 @@
+package com.festivo.vendors;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/categories")
+public class ServiceCategoryController {
+  private final VendorService vendorService;
+  private final VendorSnapshots snapshots;
+
+  @GetMapping
+  public ResponseEntity<byte[]> list() {
+    return snapshots.categories(vendorService::categories).toResponse();
+  }
+}
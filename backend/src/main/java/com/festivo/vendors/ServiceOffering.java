@@ -1,6 +1,7 @@
 package com.festivo.vendors;
 
 import com.festivo.common.model.AuditableEntity;
+import com.festivo.common.model.ScopedEntity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -16,7 +17,7 @@ import lombok.Setter;
 @Setter
 @Entity
 @Table(name = "services")
-public class ServiceOffering extends AuditableEntity {
+public class ServiceOffering extends AuditableEntity implements ScopedEntity {
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "vendor_id")
   @JsonIgnore
@@ -38,4 +39,9 @@ public class ServiceOffering extends AuditableEntity {
 
   @Column(nullable = false)
   private String currency;
+
+  @Override
+  public Long scopeId() {
+    return vendor != null ? vendor.getId() : null;
+  }
 }
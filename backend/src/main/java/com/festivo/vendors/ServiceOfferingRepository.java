@@ -1,8 +1,26 @@
 package com.festivo.vendors;
 
+import com.festivo.common.model.ChangeStamp;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ServiceOfferingRepository extends JpaRepository<ServiceOffering, Long> {
   List<ServiceOffering> findByVendorId(Long vendorId);
+
+  @Query(
+      "SELECT new com.festivo.vendors.OfferingSummary(s.id, s.vendor.id, c.id, s.title, s.description, s.price) "
+          + "FROM ServiceOffering s LEFT JOIN s.category c")
+  List<OfferingSummary> findAllSummaries();
+
+  @Query(
+      "SELECT new com.festivo.vendors.OfferingSummary(s.id, s.vendor.id, c.id, s.title, s.description, s.price) "
+          + "FROM ServiceOffering s LEFT JOIN s.category c WHERE s.vendor.id = :vendorId")
+  List<OfferingSummary> findSummariesByVendorId(@Param("vendorId") Long vendorId);
+
+  @Query(
+      "SELECT new com.festivo.common.model.ChangeStamp(MAX(s.updatedAt), COUNT(s)) FROM ServiceOffering s "
+          + "WHERE s.vendor.id = :vendorId")
+  ChangeStamp changeStampByVendorId(@Param("vendorId") Long vendorId);
 }
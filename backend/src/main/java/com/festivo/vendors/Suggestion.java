@@ -0,0 +1,11 @@
+package com.festivo.vendors;
+
+/** An autocomplete entry; {@code id} is the vendor or category id for those types, otherwise null. */
+public record Suggestion(String text, Type type, Long id) {
+  public enum Type {
+    VENDOR,
+    SERVICE,
+    CATEGORY,
+    LOCATION
+  }
+}
@@ -1,11 +1,15 @@
 package com.festivo.vendors;
 
+import com.festivo.common.cache.CacheRegions;
 import com.festivo.common.model.AuditableEntity;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.festivo.users.User;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
@@ -14,12 +18,24 @@ import java.math.BigDecimal;
 import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.VENDORS)
 @JsonIgnoreProperties({"owner", "services"})
-@Table(name = "vendors")
+@Table(
+    name = "vendors",
+    indexes = {
+      @Index(name = "idx_vendor_updated", columnList = "updated_at, id"),
+      @Index(name = "idx_vendor_ranking", columnList = "ranking_score, id"),
+      @Index(name = "idx_vendor_rating", columnList = "rating, id"),
+      @Index(name = "idx_vendor_price", columnList = "starting_price, id"),
+      @Index(name = "idx_vendor_created", columnList = "created_at, id")
+    })
 public class Vendor extends AuditableEntity {
   @Column(nullable = false)
   private String name;
@@ -29,6 +45,10 @@ public class Vendor extends AuditableEntity {
 
   @Column private String location;
 
+  @Column private Double latitude;
+
+  @Column private Double longitude;
+
   @Column private boolean verified;
 
   @Column(precision = 10, scale = 2)
@@ -36,6 +56,11 @@ public class Vendor extends AuditableEntity {
 
   @Column private Double rating;
 
+  /** Default listing order, maintained by {@link VendorRankingService}; null until first ranked. */
+  @JsonIgnore
+  @Column(name = "ranking_score")
+  private Double rankingScore;
+
   @OneToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "user_id")
   private User owner;
@@ -0,0 +1,281 @@
+package com.festivo.vendors;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Prefix trie over vendor names, offering titles, category names and locations. Every phrase is
+ * inserted once per word start, so "hall" finds "Grand Hall". Each node keeps the best {@link
+ * #TOP_K} entries of its subtree, so a lookup is a walk down the query's characters plus a copy.
+ * Entries rank by the best rating among the vendors they lead to, then by how many vendors share
+ * them. A vendor's entries are re-derived from {@link VendorChangedEvent}s, and only the trie paths
+ * they touch are recomputed.
+ */
+@Component
+@RequiredArgsConstructor
+public class VendorAutocompleteIndex {
+  public static final int TOP_K = 10;
+  private static final int MAX_KEY_LENGTH = 40;
+  private static final Comparator<Entry> RANKING =
+      Comparator.comparingDouble((Entry entry) -> entry.bestRating)
+          .reversed()
+          .thenComparing(Comparator.comparingInt((Entry entry) -> entry.vendorCount).reversed())
+          .thenComparing(entry -> entry.text)
+          .thenComparing(entry -> entry.key);
+
+  private final VendorRepository vendorRepository;
+  private final ServiceOfferingRepository offeringRepository;
+  private final ServiceCategoryRepository categoryRepository;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Node root = new Node();
+  private final Map<String, Entry> entries = new HashMap<>();
+  private final Map<Long, Set<String>> entriesByVendor = new HashMap<>();
+  private final Map<Long, String> categoryNames = new HashMap<>();
+  private boolean loaded;
+
+  public List<Suggestion> suggest(String query, int limit) {
+    String prefix = normalize(query);
+    if (prefix.isEmpty()) {
+      return List.of();
+    }
+    ensureLoaded();
+    lock.readLock().lock();
+    try {
+      Node node = root;
+      for (int i = 0; i < prefix.length() && node != null; i++) {
+        node = node.children.get(prefix.charAt(i));
+      }
+      if (node == null) {
+        return List.of();
+      }
+      return node.top.stream().limit(limit).map(Entry::toSuggestion).toList();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onVendorChanged(VendorChangedEvent event) {
+    lock.writeLock().lock();
+    try {
+      if (!loaded) {
+        return;
+      }
+      Set<Entry> touched = new HashSet<>();
+      removeVendor(event.vendorId(), touched);
+      if (!event.deleted()) {
+        vendorRepository
+            .findById(event.vendorId())
+            .ifPresent(
+                vendor ->
+                    addVendor(vendor, offeringRepository.findSummariesByVendorId(vendor.getId()), touched));
+      }
+      reindex(touched);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void ensureLoaded() {
+    lock.readLock().lock();
+    try {
+      if (loaded) {
+        return;
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    lock.writeLock().lock();
+    try {
+      if (loaded) {
+        return;
+      }
+      categoryRepository.findAll().forEach(category -> categoryNames.put(category.getId(), category.getName()));
+      Map<Long, List<OfferingSummary>> offerings =
+          offeringRepository.findAllSummaries().stream()
+              .collect(Collectors.groupingBy(OfferingSummary::vendorId));
+      Set<Entry> touched = new HashSet<>();
+      for (Vendor vendor : vendorRepository.findAll()) {
+        addVendor(vendor, offerings.getOrDefault(vendor.getId(), List.of()), touched);
+      }
+      reindex(touched);
+      loaded = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void addVendor(Vendor vendor, List<OfferingSummary> offerings, Set<Entry> touched) {
+    double rating = vendor.getRating() != null ? vendor.getRating() : 0;
+    contribute(
+        vendor.getId(), rating, "V" + vendor.getId(), vendor.getName(), Suggestion.Type.VENDOR, vendor.getId(), touched);
+    contribute(
+        vendor.getId(),
+        rating,
+        "L" + normalize(vendor.getLocation()),
+        vendor.getLocation(),
+        Suggestion.Type.LOCATION,
+        null,
+        touched);
+    for (OfferingSummary offering : offerings) {
+      contribute(
+          vendor.getId(),
+          rating,
+          "S" + normalize(offering.title()),
+          offering.title(),
+          Suggestion.Type.SERVICE,
+          null,
+          touched);
+      if (offering.categoryId() != null) {
+        String name =
+            categoryNames.computeIfAbsent(
+                offering.categoryId(),
+                id -> categoryRepository.findById(id).map(ServiceCategory::getName).orElse(null));
+        contribute(
+            vendor.getId(),
+            rating,
+            "C" + offering.categoryId(),
+            name,
+            Suggestion.Type.CATEGORY,
+            offering.categoryId(),
+            touched);
+      }
+    }
+  }
+
+  private void contribute(
+      Long vendorId, double rating, String key, String text, Suggestion.Type type, Long id, Set<Entry> touched) {
+    if (normalize(text).isEmpty()) {
+      return;
+    }
+    Entry entry = entries.computeIfAbsent(key, k -> new Entry(k, text.trim(), type, id));
+    entry.vendors.put(vendorId, rating);
+    entriesByVendor.computeIfAbsent(vendorId, v -> new HashSet<>()).add(key);
+    touched.add(entry);
+  }
+
+  private void removeVendor(Long vendorId, Set<Entry> touched) {
+    Set<String> keys = entriesByVendor.remove(vendorId);
+    if (keys == null) {
+      return;
+    }
+    for (String key : keys) {
+      Entry entry = entries.get(key);
+      if (entry != null) {
+        entry.vendors.remove(vendorId);
+        if (entry.vendors.isEmpty()) {
+          entries.remove(key);
+        }
+        touched.add(entry);
+      }
+    }
+  }
+
+  private void reindex(Set<Entry> touched) {
+    touched.forEach(Entry::refresh);
+    touched.forEach(this::reindex);
+  }
+
+  /** Re-homes {@code entry} in the trie, dropping it once no vendor leads to it, and re-ranks its paths. */
+  private void reindex(Entry entry) {
+    boolean live = !entry.vendors.isEmpty();
+    for (String path : paths(entry.text)) {
+      List<Node> nodes = new ArrayList<>(path.length() + 1);
+      Node node = root;
+      nodes.add(node);
+      for (int i = 0; i < path.length(); i++) {
+        char c = path.charAt(i);
+        node = live ? node.children.computeIfAbsent(c, k -> new Node()) : node.children.get(c);
+        if (node == null) {
+          break;
+        }
+        nodes.add(node);
+      }
+      if (node != null) {
+        if (live) {
+          node.terminal.add(entry);
+        } else {
+          node.terminal.remove(entry);
+        }
+      }
+      for (int i = nodes.size() - 1; i >= 0; i--) {
+        Node current = nodes.get(i);
+        if (i > 0 && current.terminal.isEmpty() && current.children.isEmpty()) {
+          nodes.get(i - 1).children.remove(path.charAt(i - 1));
+          continue;
+        }
+        current.rank();
+      }
+    }
+  }
+
+  private static Set<String> paths(String text) {
+    String normalized = normalize(text);
+    Set<String> paths = new HashSet<>();
+    for (int start = 0; start < normalized.length(); start++) {
+      if (start == 0 || normalized.charAt(start - 1) == ' ') {
+        paths.add(normalized.substring(start, Math.min(normalized.length(), start + MAX_KEY_LENGTH)).trim());
+      }
+    }
+    return paths;
+  }
+
+  private static String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+    return text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+  }
+
+  private static final class Node {
+    private final Map<Character, Node> children = new HashMap<>();
+    private final Set<Entry> terminal = new HashSet<>();
+    private List<Entry> top = List.of();
+
+    /** Merges this node's own entries with its children's top lists, which are already ranked. */
+    void rank() {
+      Set<Entry> candidates = new HashSet<>(terminal);
+      children.values().forEach(child -> candidates.addAll(child.top));
+      top = candidates.stream().sorted(RANKING).limit(TOP_K).toList();
+    }
+  }
+
+  private static final class Entry {
+    private final String key;
+    private final String text;
+    private final Suggestion.Type type;
+    private final Long id;
+    private final Map<Long, Double> vendors = new HashMap<>();
+    private double bestRating;
+    private int vendorCount;
+
+    Entry(String key, String text, Suggestion.Type type, Long id) {
+      this.key = key;
+      this.text = text;
+      this.type = type;
+      this.id = id;
+    }
+
+    void refresh() {
+      bestRating = vendors.values().stream().mapToDouble(Double::doubleValue).max().orElse(0);
+      vendorCount = vendors.size();
+    }
+
+    Suggestion toSuggestion() {
+      return new Suggestion(text, type, id);
+    }
+  }
+}
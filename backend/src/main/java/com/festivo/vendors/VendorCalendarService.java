@@ -0,0 +1,70 @@
+package com.festivo.vendors;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.festivo.bookings.BookingRepository;
+import com.festivo.bookings.BookingSlot;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes a vendor's calendar window straight to the response. Only bookings overlapping the window
+ * are read, as {@link BookingSlot} projections streamed from the database, so memory use does not
+ * grow with the vendor's booking history.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class VendorCalendarService {
+  private final BookingRepository bookingRepository;
+  private final VendorScheduleBlockRepository scheduleRepository;
+  private final ObjectMapper objectMapper;
+
+  public void writeSnapshot(Long vendorId, OffsetDateTime start, OffsetDateTime end, OutputStream out)
+      throws IOException {
+    List<VendorScheduleBlock> blocks =
+        scheduleRepository.findInRange(
+            vendorId,
+            start.atZoneSameInstant(ZoneOffset.UTC).toLocalDate(),
+            end.atZoneSameInstant(ZoneOffset.UTC).toLocalDate());
+
+    try (JsonGenerator json = objectMapper.getFactory().createGenerator(out);
+        Stream<BookingSlot> slots = bookingRepository.streamSlotsInRange(vendorId, start, end)) {
+      json.writeStartObject();
+      json.writeArrayFieldStart("events");
+      slots.forEach(slot -> writeSlot(json, slot));
+      json.writeEndArray();
+      json.writeArrayFieldStart("blocks");
+      for (VendorScheduleBlock block : blocks) {
+        json.writeStartObject();
+        json.writeStringField("startDate", block.getStartDate().toString());
+        json.writeStringField("endDate", block.getEndDate().toString());
+        json.writeStringField("reason", block.getReason());
+        json.writeEndObject();
+      }
+      json.writeEndArray();
+      json.writeEndObject();
+    }
+  }
+
+  private void writeSlot(JsonGenerator json, BookingSlot slot) {
+    try {
+      json.writeStartObject();
+      json.writeNumberField("bookingId", slot.id());
+      json.writeStringField("start", slot.startTime().toString());
+      json.writeStringField("end", slot.endTime().toString());
+      json.writeStringField("status", slot.status().name());
+      json.writeEndObject();
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+}
@@ -0,0 +1,11 @@
+package com.festivo.vendors;
+
+public record VendorChangedEvent(Long vendorId, boolean deleted) {
+  public static VendorChangedEvent updated(Long vendorId) {
+    return new VendorChangedEvent(vendorId, false);
+  }
+
+  public static VendorChangedEvent deleted(Long vendorId) {
+    return new VendorChangedEvent(vendorId, true);
+  }
+}
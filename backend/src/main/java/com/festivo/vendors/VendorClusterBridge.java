@@ -0,0 +1,58 @@
+package com.festivo.vendors;
+
+import com.festivo.common.cluster.EntityChange;
+import com.festivo.common.cluster.EntityChangeSubscriber;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Replays vendor, offering, schedule and category changes from other nodes as the local
+ * {@link VendorChangedEvent}, {@link VendorScheduleChangedEvent} and {@link CategoryChangedEvent},
+ * so the profile cache, snapshots and in-memory indexes refresh exactly what a peer touched.
+ */
+@Component
+@RequiredArgsConstructor
+public class VendorClusterBridge implements EntityChangeSubscriber {
+  private final VendorScheduleBlockRepository scheduleRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Override
+  public Set<Class<?>> entityTypes() {
+    return Set.of(Vendor.class, ServiceOffering.class, VendorScheduleBlock.class, ServiceCategory.class);
+  }
+
+  @Override
+  public void onRemoteChanges(List<EntityChange> changes) {
+    Map<Long, Boolean> vendors = new LinkedHashMap<>();
+    Set<Long> schedules = new LinkedHashSet<>();
+    Set<Long> categories = new LinkedHashSet<>();
+    for (EntityChange change : changes) {
+      if (change.is(Vendor.class)) {
+        vendors.merge(change.entityId(), change.deleted(), Boolean::logicalOr);
+      } else if (change.is(ServiceCategory.class)) {
+        categories.add(change.entityId());
+      } else if (change.scopeId() == null) {
+        continue;
+      } else if (change.is(ServiceOffering.class)) {
+        vendors.putIfAbsent(change.scopeId(), false);
+      } else if (change.is(VendorScheduleBlock.class)) {
+        schedules.add(change.scopeId());
+      }
+    }
+    vendors.forEach((vendorId, deleted) -> eventPublisher.publishEvent(new VendorChangedEvent(vendorId, deleted)));
+    categories.forEach(categoryId -> eventPublisher.publishEvent(new CategoryChangedEvent(categoryId)));
+    for (Long vendorId : schedules) {
+      List<ScheduleBlockSpan> blocks =
+          scheduleRepository.findByVendorIdOrderByStartDateAsc(vendorId).stream()
+              .map(block -> new ScheduleBlockSpan(vendorId, block.getStartDate(), block.getEndDate()))
+              .toList();
+      eventPublisher.publishEvent(new VendorScheduleChangedEvent(vendorId, blocks));
+    }
+  }
+}
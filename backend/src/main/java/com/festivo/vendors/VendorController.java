@@ -1,16 +1,29 @@
 package com.festivo.vendors;
 
+import com.festivo.auth.CurrentUser;
+import com.festivo.bookings.TimeWindow;
+import com.festivo.common.exception.BadRequestException;
 import com.festivo.common.security.Roles;
+import com.festivo.common.web.ConditionalGet;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -21,23 +34,72 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/vendors")
 public class VendorController {
+  private static final int MAX_FREE_SLOT_SEARCH_DAYS = 92;
+  private static final double MAX_RADIUS_KM = 500;
+  private static final double KM_PER_DEGREE = 111.32;
+  private static final int MAX_PAGE_SIZE = 100;
+
   private final VendorService vendorService;
+  private final VendorCalendarService calendarService;
+  private final ReviewService reviewService;
+  private final VendorSnapshots snapshots;
 
   @GetMapping
-  public List<Vendor> list(
+  public ResponseEntity<byte[]> list(
+      @RequestParam(required = false) Long categoryId,
+      @RequestParam(required = false) Double minRating,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableOn,
+      @RequestParam(required = false) Double lat,
+      @RequestParam(required = false) Double lng,
+      @RequestParam(required = false) Double radiusKm,
+      @RequestParam(required = false) List<Double> bbox,
+      @RequestParam(required = false) String sort,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int limit) {
+    GeoFilter near = toGeoFilter(lat, lng, radiusKm, bbox);
+    VendorSort order = toVendorSort(sort, near);
+    int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    Supplier<CursorPage<Vendor>> page =
+        () -> vendorService.search(categoryId, minRating, availableOn, near, order, cursor, pageSize);
+    if (availableOn != null || near != null) {
+      return snapshots.render(page.get()).toResponse();
+    }
+    String key = categoryId + ":" + minRating + ":" + order + ":" + cursor + ":" + pageSize;
+    return snapshots.catalog(key, page).toResponse();
+  }
+
+  @GetMapping("/facets")
+  public VendorFacets facets(
       @RequestParam(required = false) Long categoryId,
-      @RequestParam(required = false) Double minRating) {
-    return vendorService.search(categoryId, minRating);
+      @RequestParam(required = false) Double minRating,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableOn,
+      @RequestParam(required = false) Double lat,
+      @RequestParam(required = false) Double lng,
+      @RequestParam(required = false) Double radiusKm,
+      @RequestParam(required = false) List<Double> bbox) {
+    return vendorService.facets(categoryId, minRating, availableOn, toGeoFilter(lat, lng, radiusKm, bbox));
+  }
+
+  @GetMapping("/search")
+  public List<Vendor> search(@RequestParam String q, @RequestParam(defaultValue = "20") int limit) {
+    return vendorService.textSearch(q, Math.max(1, Math.min(limit, 100)));
+  }
+
+  @GetMapping("/autocomplete")
+  public List<Suggestion> autocomplete(@RequestParam String q, @RequestParam(defaultValue = "8") int limit) {
+    return vendorService.suggest(q, Math.max(1, Math.min(limit, VendorAutocompleteIndex.TOP_K)));
   }
 
   @GetMapping("/{id}")
-  public Vendor get(@PathVariable Long id) {
-    return vendorService.getById(id);
+  public ResponseEntity<byte[]> get(@PathVariable Long id) {
+    return snapshots.profile(id, () -> vendorService.profile(id)).toResponse();
   }
 
   @PostMapping
@@ -47,6 +109,8 @@ public class VendorController {
     vendor.setName(request.name());
     vendor.setDescription(request.description());
     vendor.setLocation(request.location());
+    vendor.setLatitude(request.latitude());
+    vendor.setLongitude(request.longitude());
     vendor.setStartingPrice(request.startingPrice());
     return vendorService.create(vendor);
   }
@@ -58,6 +122,8 @@ public class VendorController {
     vendor.setName(request.name());
     vendor.setDescription(request.description());
     vendor.setLocation(request.location());
+    vendor.setLatitude(request.latitude());
+    vendor.setLongitude(request.longitude());
     vendor.setStartingPrice(request.startingPrice());
     return vendorService.update(id, vendor);
   }
@@ -70,8 +136,8 @@ public class VendorController {
 
   @GetMapping("/{id}/services")
   @PreAuthorize("hasAnyAuthority('" + Roles.VENDOR + "','" + Roles.ADMIN + "')")
-  public List<ServiceOffering> listServices(@PathVariable Long id) {
-    return vendorService.offerings(id);
+  public ResponseEntity<List<ServiceOffering>> listServices(@PathVariable Long id, WebRequest request) {
+    return ConditionalGet.respond(request, vendorService.offeringsChangeStamp(id), () -> vendorService.offerings(id));
   }
 
   @PostMapping("/{id}/services")
@@ -107,23 +173,73 @@ public class VendorController {
     return vendorService.availability(id, start, end);
   }
 
+  @GetMapping("/{id}/free-slots")
+  public List<TimeWindow> freeSlots(
+      @PathVariable Long id,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+      @RequestParam(defaultValue = "60") int durationMinutes,
+      @RequestParam(defaultValue = "10") int limit) {
+    OffsetDateTime horizon = from.plusDays(MAX_FREE_SLOT_SEARCH_DAYS);
+    OffsetDateTime boundedTo = to.isAfter(horizon) ? horizon : to;
+    return vendorService.freeSlots(
+        id,
+        from,
+        boundedTo,
+        Duration.ofMinutes(Math.max(15, Math.min(durationMinutes, 24 * 60))),
+        Math.max(1, Math.min(limit, 100)));
+  }
+
   @GetMapping("/{id}/calendar")
-  public Map<String, Object> calendar(
+  public ResponseEntity<StreamingResponseBody> calendar(
       @PathVariable Long id,
       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime start,
       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime end) {
-    return vendorService.calendarSnapshot(id, start, end);
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(out -> calendarService.writeSnapshot(id, start, end, out));
   }
 
   @GetMapping("/{id}/rating")
-  public Map<String, Object> rating(@PathVariable Long id) {
-    return Map.of("rating", vendorService.rating(id));
+  public VendorRating rating(@PathVariable Long id) {
+    return vendorService.rating(id);
+  }
+
+  @GetMapping("/{id}/reviews")
+  public ResponseEntity<List<Review>> reviews(@PathVariable Long id, WebRequest request) {
+    return ConditionalGet.respond(request, reviewService.changeStamp(id), () -> reviewService.forVendor(id));
+  }
+
+  @PostMapping("/{id}/reviews")
+  @PreAuthorize("hasAuthority('" + Roles.CUSTOMER + "')")
+  public Review createReview(@PathVariable Long id, @Valid @RequestBody ReviewRequest request) {
+    return reviewService.create(
+        id, CurrentUser.subject(), request.bookingId(), request.rating(), request.comment());
+  }
+
+  @PutMapping("/{vendorId}/reviews/{reviewId}")
+  @PreAuthorize("hasAnyAuthority('" + Roles.CUSTOMER + "','" + Roles.ADMIN + "')")
+  public Review updateReview(
+      @PathVariable Long vendorId, @PathVariable Long reviewId, @Valid @RequestBody ReviewRequest request) {
+    return reviewService.update(
+        vendorId,
+        reviewId,
+        CurrentUser.subject(),
+        CurrentUser.hasAuthority(Roles.ADMIN),
+        request.rating(),
+        request.comment());
+  }
+
+  @DeleteMapping("/{vendorId}/reviews/{reviewId}")
+  @PreAuthorize("hasAnyAuthority('" + Roles.CUSTOMER + "','" + Roles.ADMIN + "')")
+  public void deleteReview(@PathVariable Long vendorId, @PathVariable Long reviewId) {
+    reviewService.delete(vendorId, reviewId, CurrentUser.subject(), CurrentUser.hasAuthority(Roles.ADMIN));
   }
 
   @GetMapping("/{id}/schedule")
   @PreAuthorize("hasAnyAuthority('" + Roles.VENDOR + "','" + Roles.ADMIN + "')")
-  public List<VendorScheduleBlock> schedule(@PathVariable Long id) {
-    return vendorService.schedule(id);
+  public ResponseEntity<List<VendorScheduleBlock>> schedule(@PathVariable Long id, WebRequest request) {
+    return ConditionalGet.respond(request, vendorService.scheduleChangeStamp(id), () -> vendorService.schedule(id));
   }
 
   @PutMapping("/{id}/schedule")
@@ -138,7 +254,9 @@ public class VendorController {
       @NotBlank String name,
       String description,
       String location,
-      @NotNull BigDecimal startingPrice) {}
+      @NotNull BigDecimal startingPrice,
+      @DecimalMin("-90") @DecimalMax("90") Double latitude,
+      @DecimalMin("-180") @DecimalMax("180") Double longitude) {}
 
   public record ServiceOfferingRequest(
       @NotBlank String title,
@@ -147,6 +265,8 @@ public class VendorController {
       @NotBlank String currency,
       Long categoryId) {}
 
+  public record ReviewRequest(@NotNull @Min(1) @Max(5) Integer rating, String comment, Long bookingId) {}
+
   public record ScheduleBlockRequest(@NotNull LocalDate startDate, @NotNull LocalDate endDate, String reason) {}
 
   private ServiceOffering toServiceOffering(ServiceOfferingRequest request) {
@@ -163,6 +283,62 @@ public class VendorController {
     return offering;
   }
 
+  private GeoFilter toGeoFilter(Double lat, Double lng, Double radiusKm, List<Double> bbox) {
+    if (bbox != null) {
+      return toBox(bbox);
+    }
+    if (lat != null && lng != null) {
+      checkCoordinates(lat, lng);
+      return GeoFilter.radius(lat, lng, Math.max(0.1, Math.min(radiusKm != null ? radiusKm : 25, MAX_RADIUS_KM)));
+    }
+    return null;
+  }
+
+  /**
+   * {@code bbox=minLat,minLng,maxLat,maxLng}, at most as wide and tall as the largest radius
+   * search. Boxes crossing the antimeridian are rejected rather than wrapped; clients split them.
+   */
+  private static GeoFilter toBox(List<Double> bbox) {
+    if (bbox.size() != 4 || bbox.contains(null)) {
+      throw new BadRequestException("bbox needs exactly four values: minLat,minLng,maxLat,maxLng");
+    }
+    double minLat = bbox.get(0);
+    double minLng = bbox.get(1);
+    double maxLat = bbox.get(2);
+    double maxLng = bbox.get(3);
+    checkCoordinates(minLat, minLng);
+    checkCoordinates(maxLat, maxLng);
+    if (minLat > maxLat) {
+      throw new BadRequestException("bbox minLat must not exceed maxLat");
+    }
+    if (minLng > maxLng) {
+      throw new BadRequestException("bbox must not cross the antimeridian; split it into two boxes");
+    }
+    double heightKm = (maxLat - minLat) * KM_PER_DEGREE;
+    double widthKm = (maxLng - minLng) * KM_PER_DEGREE * Math.cos(Math.toRadians((minLat + maxLat) / 2));
+    if (heightKm > 2 * MAX_RADIUS_KM || widthKm > 2 * MAX_RADIUS_KM) {
+      throw new BadRequestException("bbox may span at most " + (int) (2 * MAX_RADIUS_KM) + " km each way");
+    }
+    return GeoFilter.box(minLat, minLng, maxLat, maxLng);
+  }
+
+  private static void checkCoordinates(double lat, double lng) {
+    if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+      throw new BadRequestException("Latitude must be within [-90, 90] and longitude within [-180, 180]");
+    }
+  }
+
+  private VendorSort toVendorSort(String sort, GeoFilter near) {
+    if (sort == null || sort.isBlank()) {
+      return near != null ? VendorSort.DISTANCE : VendorSort.RANKING;
+    }
+    try {
+      return VendorSort.valueOf(sort.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException ex) {
+      throw new BadRequestException("Unknown sort: " + sort);
+    }
+  }
+
   private VendorScheduleBlock toScheduleBlock(ScheduleBlockRequest request) {
     VendorScheduleBlock block = new VendorScheduleBlock();
     block.setStartDate(request.startDate());
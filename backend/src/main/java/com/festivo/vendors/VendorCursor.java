@@ -0,0 +1,47 @@
+package com.festivo.vendors;
+
+import com.festivo.common.exception.BadRequestException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last vendor on a page: the sort it belongs to, that vendor's sort key and its id.
+ * Clients only ever see the URL-safe Base64 form, so the layout can change without breaking them
+ * beyond invalidating cursors that are in flight.
+ */
+record VendorCursor(VendorSort sort, Comparable<?> key, long id) {
+  private static final String SEPARATOR = "|";
+
+  static VendorCursor decode(String token, VendorSort expected) {
+    String[] parts;
+    try {
+      parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", -1);
+    } catch (IllegalArgumentException ex) {
+      throw new BadRequestException("Invalid cursor");
+    }
+    if (parts.length != 3 || !expected.name().equals(parts[0])) {
+      throw new BadRequestException("Invalid cursor");
+    }
+    Comparable<?> key;
+    long id;
+    try {
+      key = parts[1].isEmpty() ? null : expected.parseKey(parts[1]);
+      id = Long.parseLong(parts[2]);
+    } catch (RuntimeException ex) {
+      throw new BadRequestException("Invalid cursor");
+    }
+    // Distances are computed for every candidate, so a distance cursor always carries one.
+    if (key == null && expected == VendorSort.DISTANCE) {
+      throw new BadRequestException("Invalid cursor");
+    }
+    return new VendorCursor(expected, key, id);
+  }
+
+  String encode() {
+    String keyText =
+        key == null ? "" : key instanceof BigDecimal decimal ? decimal.toPlainString() : key.toString();
+    String raw = sort.name() + SEPARATOR + keyText + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,204 @@
+package com.festivo.vendors;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Vendor bitsets per service category and per offering price bucket, indexed by vendor id like
+ * {@link AvailabilityBitmapIndex}. A facet request intersects the filter bitset with each facet
+ * bitset, so its cost depends on the number of vendors in bits rather than rows read. Built on
+ * first use and re-derived per vendor from {@link VendorChangedEvent}s.
+ */
+@Component
+@RequiredArgsConstructor
+public class VendorFacetIndex {
+  private static final List<BigDecimal> PRICE_EDGES =
+      List.of(0, 100, 250, 500, 1000, 2500, 5000, 10000).stream().map(BigDecimal::valueOf).toList();
+
+  private final VendorRepository vendorRepository;
+  private final ServiceOfferingRepository offeringRepository;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final BitSet vendors = new BitSet();
+  private final Map<Long, Double> ratings = new HashMap<>();
+  private final Map<Long, BitSet> byCategory = new HashMap<>();
+  private final BitSet[] byPrice = new BitSet[PRICE_EDGES.size()];
+  private final Map<Long, Entry> entries = new HashMap<>();
+  private boolean loaded;
+
+  /**
+   * Facet counts over vendors passing {@code minRating}, not in {@code excluded} and, when {@code
+   * within} is given, inside it. Price counts are also restricted to {@code categoryId}.
+   */
+  public VendorFacets facets(Long categoryId, Double minRating, BitSet excluded, Collection<Long> within) {
+    ensureLoaded();
+    lock.readLock().lock();
+    try {
+      BitSet matching = (BitSet) vendors.clone();
+      if (within != null) {
+        BitSet allowed = new BitSet();
+        within.forEach(id -> allowed.set(Math.toIntExact(id)));
+        matching.and(allowed);
+      }
+      if (excluded != null) {
+        matching.andNot(excluded);
+      }
+      if (minRating != null) {
+        for (int bit = matching.nextSetBit(0); bit >= 0; bit = matching.nextSetBit(bit + 1)) {
+          Double rating = ratings.get((long) bit);
+          if (rating == null || rating < minRating) {
+            matching.clear(bit);
+          }
+        }
+      }
+      Map<Long, Long> categories = new LinkedHashMap<>();
+      byCategory.entrySet().stream()
+          .sorted(Map.Entry.comparingByKey())
+          .forEach(
+              entry -> {
+                BitSet members = (BitSet) entry.getValue().clone();
+                members.and(matching);
+                if (!members.isEmpty()) {
+                  categories.put(entry.getKey(), (long) members.cardinality());
+                }
+              });
+      if (categoryId != null) {
+        matching.and(byCategory.getOrDefault(categoryId, new BitSet()));
+      }
+      List<VendorFacets.PriceBucket> prices = new ArrayList<>(PRICE_EDGES.size());
+      for (int i = 0; i < PRICE_EDGES.size(); i++) {
+        long count = 0;
+        if (byPrice[i] != null) {
+          BitSet members = (BitSet) byPrice[i].clone();
+          members.and(matching);
+          count = members.cardinality();
+        }
+        prices.add(
+            new VendorFacets.PriceBucket(
+                PRICE_EDGES.get(i), i + 1 < PRICE_EDGES.size() ? PRICE_EDGES.get(i + 1) : null, count));
+      }
+      return new VendorFacets(categories, prices);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onVendorChanged(VendorChangedEvent event) {
+    lock.writeLock().lock();
+    try {
+      if (!loaded) {
+        return;
+      }
+      remove(event.vendorId());
+      if (!event.deleted()) {
+        vendorRepository
+            .findById(event.vendorId())
+            .ifPresent(
+                vendor ->
+                    put(vendor.getId(), vendor.getRating(), offeringRepository.findSummariesByVendorId(vendor.getId())));
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void ensureLoaded() {
+    lock.readLock().lock();
+    try {
+      if (loaded) {
+        return;
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    lock.writeLock().lock();
+    try {
+      if (loaded) {
+        return;
+      }
+      Map<Long, List<OfferingSummary>> offerings =
+          offeringRepository.findAllSummaries().stream()
+              .collect(Collectors.groupingBy(OfferingSummary::vendorId));
+      for (RatedVendor vendor : vendorRepository.findAllRatings()) {
+        put(vendor.vendorId(), vendor.rating(), offerings.getOrDefault(vendor.vendorId(), List.of()));
+      }
+      loaded = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void put(Long vendorId, Double rating, List<OfferingSummary> offerings) {
+    int bit = Math.toIntExact(vendorId);
+    Set<Long> categories = new HashSet<>();
+    Set<Integer> buckets = new HashSet<>();
+    for (OfferingSummary offering : offerings) {
+      if (offering.categoryId() != null) {
+        categories.add(offering.categoryId());
+      }
+      if (offering.price() != null) {
+        buckets.add(bucketOf(offering.price()));
+      }
+    }
+    vendors.set(bit);
+    if (rating != null) {
+      ratings.put(vendorId, rating);
+    }
+    categories.forEach(category -> byCategory.computeIfAbsent(category, c -> new BitSet()).set(bit));
+    for (int bucket : buckets) {
+      if (byPrice[bucket] == null) {
+        byPrice[bucket] = new BitSet();
+      }
+      byPrice[bucket].set(bit);
+    }
+    entries.put(vendorId, new Entry(categories, buckets));
+  }
+
+  private void remove(Long vendorId) {
+    int bit = Math.toIntExact(vendorId);
+    vendors.clear(bit);
+    ratings.remove(vendorId);
+    Entry previous = entries.remove(vendorId);
+    if (previous == null) {
+      return;
+    }
+    for (Long category : previous.categories()) {
+      BitSet members = byCategory.get(category);
+      if (members != null) {
+        members.clear(bit);
+        if (members.isEmpty()) {
+          byCategory.remove(category);
+        }
+      }
+    }
+    for (int bucket : previous.buckets()) {
+      byPrice[bucket].clear(bit);
+    }
+  }
+
+  private static int bucketOf(BigDecimal price) {
+    for (int i = PRICE_EDGES.size() - 1; i > 0; i--) {
+      if (price.compareTo(PRICE_EDGES.get(i)) >= 0) {
+        return i;
+      }
+    }
+    return 0;
+  }
+
+  private record Entry(Set<Long> categories, Set<Integer> buckets) {}
+}
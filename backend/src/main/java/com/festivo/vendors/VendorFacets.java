@@ -0,0 +1,14 @@
+package com.festivo.vendors;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts of matching vendors per service category and per offering price bucket. Category counts
+ * ignore the category filter itself so that the other categories stay selectable.
+ */
+public record VendorFacets(Map<Long, Long> categories, List<PriceBucket> prices) {
+  /** Vendors with at least one offering priced in {@code [min, max)}; {@code max} is null on the last bucket. */
+  public record PriceBucket(BigDecimal min, BigDecimal max, long count) {}
+}
@@ -0,0 +1,150 @@
+package com.festivo.vendors;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Fixed-size latitude/longitude grid over vendor coordinates. A query visits only the cells its
+ * bounding box touches and then filters candidates by exact great-circle distance.
+ */
+@Component
+@RequiredArgsConstructor
+public class VendorGeoIndex {
+  private static final double CELL_DEGREES = 0.25;
+  private static final double EARTH_RADIUS_KM = 6371.0088;
+
+  private final VendorRepository vendorRepository;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<Long, Set<Long>> cells = new HashMap<>();
+  private final Map<Long, VendorLocation> locations = new HashMap<>();
+  private boolean loaded;
+
+  /** Vendors inside the filter mapped to their distance in km from its center, nearest first. */
+  public Map<Long, Double> within(GeoFilter filter) {
+    ensureLoaded();
+    Map<Long, Double> matches = new HashMap<>();
+    lock.readLock().lock();
+    try {
+      int minLat = cell(filter.minLatitude());
+      int maxLat = cell(filter.maxLatitude());
+      int minLng = cell(filter.minLongitude());
+      int maxLng = cell(filter.maxLongitude());
+      long cellCount = (long) (maxLat - minLat + 1) * (maxLng - minLng + 1);
+      if (cellCount > locations.size()) {
+        locations.values().forEach(location -> match(filter, location, matches));
+      } else {
+        for (int latCell = minLat; latCell <= maxLat; latCell++) {
+          for (int lngCell = minLng; lngCell <= maxLng; lngCell++) {
+            for (Long vendorId : cells.getOrDefault(key(latCell, lngCell), Set.of())) {
+              match(filter, locations.get(vendorId), matches);
+            }
+          }
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    Map<Long, Double> sorted = new LinkedHashMap<>();
+    matches.entrySet().stream()
+        .sorted(Map.Entry.comparingByValue())
+        .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+    return sorted;
+  }
+
+  private static void match(GeoFilter filter, VendorLocation location, Map<Long, Double> matches) {
+    double distance =
+        distanceKm(filter.centerLatitude(), filter.centerLongitude(), location.latitude(), location.longitude());
+    if (filter.contains(location.latitude(), location.longitude(), distance)) {
+      matches.put(location.vendorId(), distance);
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onVendorChanged(VendorChangedEvent event) {
+    lock.writeLock().lock();
+    try {
+      if (!loaded) {
+        return;
+      }
+      remove(event.vendorId());
+      if (!event.deleted()) {
+        vendorRepository
+            .findById(event.vendorId())
+            .filter(vendor -> vendor.getLatitude() != null && vendor.getLongitude() != null)
+            .ifPresent(
+                vendor -> put(new VendorLocation(vendor.getId(), vendor.getLatitude(), vendor.getLongitude())));
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void ensureLoaded() {
+    lock.readLock().lock();
+    try {
+      if (loaded) {
+        return;
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    lock.writeLock().lock();
+    try {
+      if (loaded) {
+        return;
+      }
+      vendorRepository.findAllLocations().forEach(this::put);
+      loaded = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void put(VendorLocation location) {
+    locations.put(location.vendorId(), location);
+    cells
+        .computeIfAbsent(key(cell(location.latitude()), cell(location.longitude())), k -> new HashSet<>())
+        .add(location.vendorId());
+  }
+
+  private void remove(Long vendorId) {
+    VendorLocation previous = locations.remove(vendorId);
+    if (previous == null) {
+      return;
+    }
+    long key = key(cell(previous.latitude()), cell(previous.longitude()));
+    Set<Long> members = cells.get(key);
+    if (members != null) {
+      members.remove(vendorId);
+      if (members.isEmpty()) {
+        cells.remove(key);
+      }
+    }
+  }
+
+  private static int cell(double degrees) {
+    return (int) Math.floor(degrees / CELL_DEGREES);
+  }
+
+  private static long key(int latCell, int lngCell) {
+    return ((long) latCell << 32) | (lngCell & 0xffffffffL);
+  }
+
+  private static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+    double dLat = Math.toRadians(lat2 - lat1);
+    double dLng = Math.toRadians(lng2 - lng1);
+    double a =
+        Math.sin(dLat / 2) * Math.sin(dLat / 2)
+            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+    return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+}
@@ -0,0 +1,3 @@
+package com.festivo.vendors;
+
+public record VendorLocation(Long vendorId, Double latitude, Double longitude) {}
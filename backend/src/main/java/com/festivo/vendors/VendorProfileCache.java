@@ -0,0 +1,57 @@
+package com.festivo.vendors;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Read-through cache of vendor profiles and their offering lists, bounded by size and TTL. Entries
+ * are evicted after commit of any change that publishes a {@link VendorChangedEvent}. A load racing
+ * with the eviction cannot outlive it, because Caffeine makes an invalidation wait for an in-flight
+ * load of the same key. Hit, miss and eviction counts are published as {@code cache.*} meters.
+ */
+@Component
+public class VendorProfileCache {
+  /** Listener order of the eviction, so caches built on top of this one can evict after it. */
+  public static final int EVICTION_ORDER = 0;
+
+  private final Cache<Long, Vendor> profiles;
+  private final Cache<Long, List<ServiceOffering>> offerings;
+
+  public VendorProfileCache(
+      MeterRegistry meterRegistry,
+      @Value("${festivo.cache.vendor-profiles.max-size}") long maxSize,
+      @Value("${festivo.cache.vendor-profiles.ttl}") Duration ttl) {
+    this.profiles = build(maxSize, ttl);
+    this.offerings = build(maxSize, ttl);
+    CaffeineCacheMetrics.monitor(meterRegistry, profiles, "vendorProfiles");
+    CaffeineCacheMetrics.monitor(meterRegistry, offerings, "vendorOfferings");
+  }
+
+  public Vendor profile(Long vendorId, Function<Long, Vendor> loader) {
+    return profiles.get(vendorId, loader);
+  }
+
+  public List<ServiceOffering> offerings(Long vendorId, Function<Long, List<ServiceOffering>> loader) {
+    return offerings.get(vendorId, id -> List.copyOf(loader.apply(id)));
+  }
+
+  @Order(EVICTION_ORDER)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onVendorChanged(VendorChangedEvent event) {
+    profiles.invalidate(event.vendorId());
+    offerings.invalidate(event.vendorId());
+  }
+
+  private static <V> Cache<Long, V> build(long maxSize, Duration ttl) {
+    return Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+  }
+}
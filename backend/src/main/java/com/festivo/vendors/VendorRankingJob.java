@@ -0,0 +1,116 @@
+package com.festivo.vendors;
+
+import com.festivo.bookings.BookingChangedEvent;
+import com.festivo.common.lock.ClusterLockProvider;
+import com.festivo.messaging.MessageRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps ranking scores current. Vendor and booking changes mark a vendor dirty, vendors with new
+ * chat messages are picked up on each tick, and dirty vendors are re-scored in one batch. A nightly
+ * rebuild re-scores everyone so that old bookings and chats age out of the recent window; only the
+ * node holding the cluster lock runs it. On startup one node scores vendors that have no score yet,
+ * since the default listing sorts by it.
+ */
+@Slf4j
+@Component
+public class VendorRankingJob {
+  private static final String BACKFILL_LOCK = "festivo:ranking-backfill";
+  private static final String REBUILD_LOCK = "festivo:ranking-rebuild";
+
+  private final VendorRankingService rankingService;
+  private final MessageRepository messageRepository;
+  private final ClusterLockProvider clusterLocks;
+  private final TransactionTemplate lockTransaction;
+
+  private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+  private Instant messagesCheckedAt = Instant.now();
+
+  public VendorRankingJob(
+      VendorRankingService rankingService,
+      MessageRepository messageRepository,
+      ClusterLockProvider clusterLocks,
+      PlatformTransactionManager transactionManager) {
+    this.rankingService = rankingService;
+    this.messageRepository = messageRepository;
+    this.clusterLocks = clusterLocks;
+    this.lockTransaction = new TransactionTemplate(transactionManager);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void scoreUnranked() {
+    lockTransaction.executeWithoutResult(
+        status -> {
+          if (!clusterLocks.lockForTransaction(BACKFILL_LOCK, Duration.ZERO)) {
+            return;
+          }
+          int scored = rankingService.scoreUnranked();
+          if (scored > 0) {
+            log.info("Scored {} unranked vendors", scored);
+          }
+        });
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onVendorChanged(VendorChangedEvent event) {
+    if (!event.deleted()) {
+      dirty.add(event.vendorId());
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onBookingChanged(BookingChangedEvent event) {
+    if (event.vendorId() != null) {
+      dirty.add(event.vendorId());
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${festivo.ranking.refresh-interval}")
+  public void refresh() {
+    Instant checkedAt = Instant.now();
+    dirty.addAll(messageRepository.findVendorIdsMessagedSince(messagesCheckedAt));
+    messagesCheckedAt = checkedAt;
+    List<Long> vendorIds = new ArrayList<>();
+    for (Iterator<Long> it = dirty.iterator(); it.hasNext(); ) {
+      vendorIds.add(it.next());
+      it.remove();
+    }
+    if (vendorIds.isEmpty()) {
+      return;
+    }
+    try {
+      int changed = rankingService.refresh(vendorIds);
+      log.debug("Re-ranked {} vendors, {} scores changed", vendorIds.size(), changed);
+    } catch (RuntimeException ex) {
+      dirty.addAll(vendorIds);
+      throw ex;
+    }
+  }
+
+  @Scheduled(cron = "${festivo.ranking.rebuild-cron}", zone = "UTC")
+  public void rebuild() {
+    lockTransaction.executeWithoutResult(
+        status -> {
+          if (!clusterLocks.lockForTransaction(REBUILD_LOCK, Duration.ZERO)) {
+            log.debug("Vendor ranking rebuild is running on another node");
+            return;
+          }
+          int changed = rankingService.rebuild();
+          log.info("Rebuilt vendor ranking scores, {} changed", changed);
+        });
+  }
+}
@@ -0,0 +1,157 @@
+package com.festivo.vendors;
+
+import com.festivo.bookings.BookingRepository;
+import com.festivo.bookings.VendorBookingCount;
+import com.festivo.common.cache.SecondLevelCacheEvictor;
+import com.festivo.messaging.ConversationResponse;
+import com.festivo.messaging.MessageRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Computes {@link Vendor#getRankingScore()} as a weighted sum of four signals in [0, 1]:
+ *
+ * <ul>
+ *   <li>rating, Bayesian-smoothed toward the mean of all reviews so a few reviews cannot dominate;
+ *   <li>confirmed or completed bookings created within {@link #RECENT}, saturating;
+ *   <li>the verified flag;
+ *   <li>the share of recent chats where the vendor answered within {@link #RESPONSE_WINDOW} of the
+ *       first customer message, Laplace-smoothed so vendors without chats score one half.
+ * </ul>
+ *
+ * <p>Scores are written with plain JDBC so the vendor's {@code updatedAt}, ETag and sync feed
+ * position stay put and no {@link VendorChangedEvent} rebuilds the indexes; the score is only read
+ * by SQL ordering. Only the rescored entries leave the local second-level cache; other nodes see
+ * the new score on their entities once the region TTL expires.
+ */
+@Service
+public class VendorRankingService {
+  static final Duration RECENT = Duration.ofDays(90);
+  static final Duration RESPONSE_WINDOW = Duration.ofHours(24);
+
+  private static final int CHUNK_SIZE = 500;
+  private static final double PRIOR_REVIEWS = 10;
+  private static final double DEFAULT_MEAN_RATING = 3;
+  private static final double BOOKING_SATURATION = 5;
+  private static final double RATING_WEIGHT = 0.5;
+  private static final double BOOKING_WEIGHT = 0.25;
+  private static final double RESPONSE_WEIGHT = 0.15;
+  private static final double VERIFIED_WEIGHT = 0.1;
+  private static final double EPSILON = 1e-9;
+
+  private final VendorRepository vendorRepository;
+  private final VendorRatingSummaryRepository summaryRepository;
+  private final BookingRepository bookingRepository;
+  private final MessageRepository messageRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final SecondLevelCacheEvictor cacheEvictor;
+  private final TransactionTemplate chunkTransaction;
+
+  public VendorRankingService(
+      VendorRepository vendorRepository,
+      VendorRatingSummaryRepository summaryRepository,
+      BookingRepository bookingRepository,
+      MessageRepository messageRepository,
+      JdbcTemplate jdbcTemplate,
+      SecondLevelCacheEvictor cacheEvictor,
+      PlatformTransactionManager transactionManager) {
+    this.vendorRepository = vendorRepository;
+    this.summaryRepository = summaryRepository;
+    this.bookingRepository = bookingRepository;
+    this.messageRepository = messageRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.cacheEvictor = cacheEvictor;
+    this.chunkTransaction = new TransactionTemplate(transactionManager);
+    this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /**
+   * Re-scores the given vendors and returns how many scores changed. Each chunk commits in its own
+   * transaction, so a full rebuild never holds more than one chunk of vendors in memory.
+   */
+  public int refresh(Collection<Long> vendorIds) {
+    if (vendorIds.isEmpty()) {
+      return 0;
+    }
+    double meanRating = meanRating();
+    List<Long> ids = List.copyOf(vendorIds);
+    int changed = 0;
+    for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+      List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+      Map<Long, Double> scores = chunkTransaction.execute(status -> score(chunk, meanRating));
+      cacheEvictor.evictEntries(Vendor.class, scores.keySet());
+      changed += scores.size();
+    }
+    return changed;
+  }
+
+  /** Re-scores every vendor, which also ages out bookings and chats that left the recent window. */
+  public int rebuild() {
+    return refresh(vendorRepository.findAllIds());
+  }
+
+  /** Scores vendors that have never been scored, such as every vendor right after ranking shipped. */
+  public int scoreUnranked() {
+    return refresh(vendorRepository.findIdsByRankingScoreIsNull());
+  }
+
+  /** Writes the scores that changed and returns them by vendor id. */
+  private Map<Long, Double> score(List<Long> vendorIds, double meanRating) {
+    Instant since = Instant.now().minus(RECENT);
+    Map<Long, VendorRatingSummary> summaries =
+        summaryRepository.findByVendorIdIn(vendorIds).stream()
+            .collect(Collectors.toMap(summary -> summary.getVendor().getId(), Function.identity()));
+    Map<Long, Long> bookings =
+        bookingRepository.countConfirmedByVendorIdIn(vendorIds, since).stream()
+            .collect(Collectors.toMap(VendorBookingCount::vendorId, VendorBookingCount::count));
+    Map<Long, long[]> responses = new HashMap<>();
+    for (ConversationResponse conversation : messageRepository.findConversationResponses(vendorIds, since)) {
+      if (conversation.firstInquiry() == null) {
+        continue;
+      }
+      long[] counts = responses.computeIfAbsent(conversation.vendorId(), id -> new long[2]);
+      counts[0]++;
+      if (conversation.firstReply() != null
+          && !conversation.firstReply().isAfter(conversation.firstInquiry().plus(RESPONSE_WINDOW))) {
+        counts[1]++;
+      }
+    }
+    Map<Long, Double> changed = new HashMap<>();
+    for (RankedVendor vendor : vendorRepository.findRankingInputs(vendorIds)) {
+      VendorRatingSummary summary = summaries.get(vendor.vendorId());
+      long[] response = responses.getOrDefault(vendor.vendorId(), new long[2]);
+      double rating =
+          summary == null
+              ? meanRating
+              : (PRIOR_REVIEWS * meanRating + summary.getRatingSum()) / (PRIOR_REVIEWS + summary.getReviewCount());
+      double score =
+          RATING_WEIGHT * (rating - 1) / 4
+              + BOOKING_WEIGHT * (1 - Math.exp(-bookings.getOrDefault(vendor.vendorId(), 0L) / BOOKING_SATURATION))
+              + RESPONSE_WEIGHT * (response[1] + 1.0) / (response[0] + 2.0)
+              + VERIFIED_WEIGHT * (vendor.verified() ? 1 : 0);
+      if (vendor.rankingScore() == null || Math.abs(vendor.rankingScore() - score) > EPSILON) {
+        changed.put(vendor.vendorId(), score);
+      }
+    }
+    jdbcTemplate.batchUpdate(
+        "UPDATE vendors SET ranking_score = ? WHERE id = ?",
+        changed.entrySet().stream().map(entry -> new Object[] {entry.getValue(), entry.getKey()}).toList());
+    return changed;
+  }
+
+  private double meanRating() {
+    Double mean = summaryRepository.averageRating();
+    return mean != null ? mean : DEFAULT_MEAN_RATING;
+  }
+}
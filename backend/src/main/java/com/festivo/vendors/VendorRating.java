@@ -0,0 +1,5 @@
+package com.festivo.vendors;
+
+import java.util.Map;
+
+public record VendorRating(Double rating, long count, Map<Integer, Long> histogram) {}
@@ -0,0 +1,44 @@
+package com.festivo.vendors;
+
+import com.festivo.common.model.AuditableEntity;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "vendor_rating_summaries")
+public class VendorRatingSummary extends AuditableEntity {
+  @OneToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "vendor_id", nullable = false, unique = true)
+  @JsonIgnore
+  private Vendor vendor;
+
+  @Column(nullable = false)
+  private long reviewCount;
+
+  @Column(nullable = false)
+  private long ratingSum;
+
+  @Column(nullable = false)
+  private long oneStar;
+
+  @Column(nullable = false)
+  private long twoStars;
+
+  @Column(nullable = false)
+  private long threeStars;
+
+  @Column(nullable = false)
+  private long fourStars;
+
+  @Column(nullable = false)
+  private long fiveStars;
+}
@@ -0,0 +1,45 @@
+package com.festivo.vendors;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface VendorRatingSummaryRepository extends JpaRepository<VendorRatingSummary, Long> {
+  Optional<VendorRatingSummary> findByVendorId(Long vendorId);
+
+  List<VendorRatingSummary> findByVendorIdIn(Collection<Long> vendorIds);
+
+  /** Mean of all reviews, or null when there are none. */
+  @Query("SELECT SUM(s.ratingSum) * 1.0 / NULLIF(SUM(s.reviewCount), 0) FROM VendorRatingSummary s")
+  Double averageRating();
+
+  /**
+   * Creates the vendor's empty summary unless it exists. Locking a missing row locks nothing, so the
+   * first reviews of a vendor would otherwise race to insert it and one would hit the unique key.
+   * The query space limits Hibernate's cache cleanup to the summaries.
+   */
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "vendor_rating_summaries"))
+  @Query(
+      value =
+          "INSERT INTO vendor_rating_summaries (vendor_id, created_at, updated_at, review_count, rating_sum, "
+              + "one_star, two_stars, three_stars, four_stars, five_stars) "
+              + "VALUES (:vendorId, :now, :now, 0, 0, 0, 0, 0, 0, 0) "
+              + "ON DUPLICATE KEY UPDATE vendor_id = vendor_id",
+      nativeQuery = true)
+  void insertIfAbsent(@Param("vendorId") Long vendorId, @Param("now") Instant now);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT s FROM VendorRatingSummary s WHERE s.vendor.id = :vendorId")
+  Optional<VendorRatingSummary> lockByVendorId(@Param("vendorId") Long vendorId);
+}
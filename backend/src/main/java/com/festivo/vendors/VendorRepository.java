@@ -1,13 +1,43 @@
 package com.festivo.vendors;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface VendorRepository extends JpaRepository<Vendor, Long> {
+public interface VendorRepository extends JpaRepository<Vendor, Long>, JpaSpecificationExecutor<Vendor> {
   @Query(
       "SELECT v FROM Vendor v WHERE (:categoryId IS NULL OR EXISTS (SELECT 1 FROM ServiceOffering s WHERE s.vendor = v AND s.category.id = :categoryId)) "
-          + "AND (:minRating IS NULL OR v.rating >= :minRating)" )
+          + "AND (:minRating IS NULL OR v.rating >= :minRating) ORDER BY v.rankingScore DESC, v.id")
   List<Vendor> search(@Param("categoryId") Long categoryId, @Param("minRating") Double minRating);
+
+  @Query(
+      "SELECT new com.festivo.vendors.VendorLocation(v.id, v.latitude, v.longitude) FROM Vendor v "
+          + "WHERE v.latitude IS NOT NULL AND v.longitude IS NOT NULL")
+  List<VendorLocation> findAllLocations();
+
+  @Query("SELECT v.id FROM Vendor v")
+  List<Long> findAllIds();
+
+  @Query("SELECT v.id FROM Vendor v WHERE v.rankingScore IS NULL")
+  List<Long> findIdsByRankingScoreIsNull();
+
+  /** Read past the second-level cache, since scores are written without updating cached vendors. */
+  @Query(
+      "SELECT new com.festivo.vendors.RankedVendor(v.id, v.verified, v.rankingScore) FROM Vendor v "
+          + "WHERE v.id IN :ids")
+  List<RankedVendor> findRankingInputs(@Param("ids") Collection<Long> ids);
+
+  @Query("SELECT new com.festivo.vendors.RatedVendor(v.id, v.rating) FROM Vendor v")
+  List<RatedVendor> findAllRatings();
+
+  @Query(
+      "SELECT v FROM Vendor v WHERE (v.updatedAt > :since OR (v.updatedAt = :since AND v.id > :afterId)) "
+          + "AND v.updatedAt <= :until ORDER BY v.updatedAt, v.id")
+  List<Vendor> findChangedSince(
+      @Param("since") Instant since, @Param("afterId") long afterId, @Param("until") Instant until, Limit limit);
 }
@@ -1,6 +1,7 @@
 package com.festivo.vendors;
 
 import com.festivo.common.model.AuditableEntity;
+import com.festivo.common.model.ScopedEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -15,7 +16,7 @@ import lombok.Setter;
 @Setter
 @Entity
 @Table(name = "vendor_schedule_blocks")
-public class VendorScheduleBlock extends AuditableEntity {
+public class VendorScheduleBlock extends AuditableEntity implements ScopedEntity {
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "vendor_id")
   private Vendor vendor;
@@ -28,5 +29,9 @@ public class VendorScheduleBlock extends AuditableEntity {
 
   @Column(length = 512)
   private String reason;
-}
 
+  @Override
+  public Long scopeId() {
+    return vendor != null ? vendor.getId() : null;
+  }
+}
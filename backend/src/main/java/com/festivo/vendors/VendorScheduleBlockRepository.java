@@ -1,11 +1,30 @@
 package com.festivo.vendors;
 
+import com.festivo.common.model.ChangeStamp;
+import java.time.LocalDate;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface VendorScheduleBlockRepository extends JpaRepository<VendorScheduleBlock, Long> {
   List<VendorScheduleBlock> findByVendorIdOrderByStartDateAsc(Long vendorId);
 
+  @Query(
+      "SELECT b FROM VendorScheduleBlock b WHERE b.vendor.id = :vendorId "
+          + "AND b.startDate <= :to AND b.endDate >= :from ORDER BY b.startDate")
+  List<VendorScheduleBlock> findInRange(
+      @Param("vendorId") Long vendorId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+  @Query(
+      "SELECT new com.festivo.vendors.ScheduleBlockSpan(b.vendor.id, b.startDate, b.endDate) "
+          + "FROM VendorScheduleBlock b WHERE b.endDate >= :from")
+  List<ScheduleBlockSpan> findSpansEndingOnOrAfter(@Param("from") LocalDate from);
+
   void deleteByVendorId(Long vendorId);
-}
 
+  @Query(
+      "SELECT new com.festivo.common.model.ChangeStamp(MAX(b.updatedAt), COUNT(b)) FROM VendorScheduleBlock b "
+          + "WHERE b.vendor.id = :vendorId")
+  ChangeStamp changeStampByVendorId(@Param("vendorId") Long vendorId);
+}
@@ -0,0 +1,5 @@
+package com.festivo.vendors;
+
+import java.util.List;
+
+public record VendorScheduleChangedEvent(Long vendorId, List<ScheduleBlockSpan> blocks) {}
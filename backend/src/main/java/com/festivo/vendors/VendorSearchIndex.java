@@ -0,0 +1,160 @@
+package com.festivo.vendors;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory inverted index over vendor name, description and location plus the titles and
+ * descriptions of each vendor's offerings, ranked with BM25. Fields are weighted by repeating their
+ * terms. Built on first search and re-indexed per vendor from {@link VendorChangedEvent}s.
+ */
+@Component
+@RequiredArgsConstructor
+public class VendorSearchIndex {
+  private static final double K1 = 1.2;
+  private static final double B = 0.75;
+  private static final int NAME_WEIGHT = 3;
+  private static final int TITLE_WEIGHT = 2;
+  private static final int LOCATION_WEIGHT = 2;
+
+  private final VendorRepository vendorRepository;
+  private final ServiceOfferingRepository offeringRepository;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+  private final Map<Long, Document> documents = new HashMap<>();
+  private long totalLength;
+  private boolean loaded;
+
+  public List<Long> search(String query, int limit) {
+    List<String> terms = SearchTokenizer.tokenize(query).stream().distinct().toList();
+    if (terms.isEmpty()) {
+      return List.of();
+    }
+    ensureLoaded();
+    lock.readLock().lock();
+    try {
+      int documentCount = documents.size();
+      double averageLength = documentCount == 0 ? 0 : (double) totalLength / documentCount;
+      Map<Long, Double> scores = new HashMap<>();
+      for (String term : terms) {
+        Map<Long, Integer> matches = postings.get(term);
+        if (matches == null) {
+          continue;
+        }
+        double idf = Math.log(1 + (documentCount - matches.size() + 0.5) / (matches.size() + 0.5));
+        matches.forEach(
+            (vendorId, frequency) -> {
+              double norm = K1 * (1 - B + B * documents.get(vendorId).length() / averageLength);
+              scores.merge(vendorId, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+            });
+      }
+      return scores.entrySet().stream()
+          .sorted(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+          .limit(limit)
+          .map(Map.Entry::getKey)
+          .toList();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onVendorChanged(VendorChangedEvent event) {
+    lock.writeLock().lock();
+    try {
+      if (!loaded) {
+        return;
+      }
+      if (event.deleted()) {
+        remove(event.vendorId());
+        return;
+      }
+      vendorRepository
+          .findById(event.vendorId())
+          .ifPresentOrElse(
+              vendor -> index(vendor, offeringRepository.findSummariesByVendorId(vendor.getId())),
+              () -> remove(event.vendorId()));
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void ensureLoaded() {
+    lock.readLock().lock();
+    try {
+      if (loaded) {
+        return;
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    lock.writeLock().lock();
+    try {
+      if (loaded) {
+        return;
+      }
+      Map<Long, List<OfferingSummary>> offerings =
+          offeringRepository.findAllSummaries().stream()
+              .collect(Collectors.groupingBy(OfferingSummary::vendorId));
+      for (Vendor vendor : vendorRepository.findAll()) {
+        index(vendor, offerings.getOrDefault(vendor.getId(), List.of()));
+      }
+      loaded = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void index(Vendor vendor, List<OfferingSummary> offerings) {
+    remove(vendor.getId());
+    List<String> terms = new ArrayList<>();
+    addWeighted(terms, vendor.getName(), NAME_WEIGHT);
+    addWeighted(terms, vendor.getLocation(), LOCATION_WEIGHT);
+    addWeighted(terms, vendor.getDescription(), 1);
+    for (OfferingSummary offering : offerings) {
+      addWeighted(terms, offering.title(), TITLE_WEIGHT);
+      addWeighted(terms, offering.description(), 1);
+    }
+    Map<String, Integer> frequencies = new HashMap<>();
+    terms.forEach(term -> frequencies.merge(term, 1, Integer::sum));
+    frequencies.forEach(
+        (term, frequency) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(vendor.getId(), frequency));
+    documents.put(vendor.getId(), new Document(terms.size(), List.copyOf(frequencies.keySet())));
+    totalLength += terms.size();
+  }
+
+  private void remove(Long vendorId) {
+    Document previous = documents.remove(vendorId);
+    if (previous == null) {
+      return;
+    }
+    totalLength -= previous.length();
+    for (String term : previous.terms()) {
+      Map<Long, Integer> matches = postings.get(term);
+      if (matches != null) {
+        matches.remove(vendorId);
+        if (matches.isEmpty()) {
+          postings.remove(term);
+        }
+      }
+    }
+  }
+
+  private static void addWeighted(List<String> terms, String text, int weight) {
+    List<String> tokens = SearchTokenizer.tokenize(text);
+    for (int i = 0; i < weight; i++) {
+      terms.addAll(tokens);
+    }
+  }
+
+  private record Document(int length, List<String> terms) {}
+}
@@ -1,14 +1,31 @@
 package com.festivo.vendors;
 
+import com.festivo.bookings.BookingIntervalIndex;
 import com.festivo.bookings.BookingRepository;
+import com.festivo.bookings.TimeWindow;
+import com.festivo.common.cache.SingleFlight;
+import com.festivo.common.exception.BadRequestException;
 import com.festivo.common.exception.ResourceNotFoundException;
+import com.festivo.common.model.ChangeStamp;
+import com.festivo.sync.SyncEntity;
+import com.festivo.sync.Tombstones;
 import jakarta.transaction.Transactional;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
-import java.util.HashMap;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -18,44 +35,214 @@ public class VendorService {
   private final VendorRepository vendorRepository;
   private final ServiceOfferingRepository offeringRepository;
   private final ServiceCategoryRepository categoryRepository;
-  private final ReviewRepository reviewRepository;
+  private final ReviewService reviewService;
   private final BookingRepository bookingRepository;
   private final VendorScheduleBlockRepository scheduleRepository;
+  private final BookingIntervalIndex intervalIndex;
+  private final AvailabilityBitmapIndex availabilityIndex;
+  private final VendorSearchIndex searchIndex;
+  private final VendorGeoIndex geoIndex;
+  private final VendorFacetIndex facetIndex;
+  private final VendorAutocompleteIndex autocompleteIndex;
+  private final VendorProfileCache profileCache;
+  private final Tombstones tombstones;
+  private final SingleFlight singleFlight;
+  private final ApplicationEventPublisher eventPublisher;
 
-  public List<Vendor> search(Long categoryId, Double minRating) {
-    return vendorRepository.search(categoryId, minRating);
+  /**
+   * One page of vendors in {@code sort} order, resuming after {@code cursor}. Keyed sorts run as
+   * range scans with {@code LIMIT}, so a deep page costs the same as the first and no count is
+   * taken; vendors without a sort key follow all keyed ones, ordered by id. Distance order walks the
+   * geo index's candidate list and loads only the slice needed for the page.
+   */
+  public CursorPage<Vendor> search(
+      Long categoryId,
+      Double minRating,
+      LocalDate availableOn,
+      GeoFilter near,
+      VendorSort sort,
+      String cursor,
+      int limit) {
+    if (sort == VendorSort.DISTANCE && near == null) {
+      throw new BadRequestException("Distance sort requires a location");
+    }
+    VendorCursor after = cursor == null || cursor.isBlank() ? null : VendorCursor.decode(cursor, sort);
+    Specification<Vendor> spec = Specification.where(VendorSpecifications.inCategory(categoryId));
+    spec = and(spec, VendorSpecifications.minRating(minRating));
+    if (availableOn != null) {
+      BitSet busy = availabilityIndex.busyOn(availableOn);
+      spec = and(spec, VendorSpecifications.idNotIn(busy.stream().mapToObj(Long::valueOf).toList()));
+    }
+    Map<Long, Double> distances = near != null ? geoIndex.within(near) : Map.of();
+    if (near != null && distances.isEmpty()) {
+      return new CursorPage<>(List.of(), null);
+    }
+    if (sort == VendorSort.DISTANCE) {
+      return byDistance(spec, distances, after, limit);
+    }
+    if (near != null) {
+      spec = and(spec, VendorSpecifications.idIn(distances.keySet()));
+    }
+    List<Vendor> page = new ArrayList<>(limit + 1);
+    if (after == null || after.key() != null) {
+      Sort keyOrder = Sort.by(sort.direction(), sort.property()).and(Sort.by(sort.direction(), "id"));
+      page.addAll(
+          fetch(
+              and(spec, VendorSpecifications.keyedAfter(sort, after != null ? after.key() : null, idOf(after))),
+              keyOrder,
+              limit + 1));
+    }
+    if (page.size() <= limit) {
+      Long resumeId = after != null && after.key() == null ? after.id() : null;
+      page.addAll(
+          fetch(
+              and(spec, VendorSpecifications.unkeyedAfter(sort, resumeId)),
+              Sort.by(sort.direction(), "id"),
+              limit + 1 - page.size()));
+    }
+    if (page.size() <= limit) {
+      return new CursorPage<>(page, null);
+    }
+    List<Vendor> content = page.subList(0, limit);
+    Vendor last = content.get(limit - 1);
+    return new CursorPage<>(
+        List.copyOf(content), new VendorCursor(sort, sort.keyOf(last), last.getId()).encode());
+  }
+
+  /** Category and price facet counts for the same filters as {@link #search}. */
+  public VendorFacets facets(Long categoryId, Double minRating, LocalDate availableOn, GeoFilter near) {
+    return facetIndex.facets(
+        categoryId,
+        minRating,
+        availableOn != null ? availabilityIndex.busyOn(availableOn) : null,
+        near != null ? geoIndex.within(near).keySet() : null);
+  }
+
+  private CursorPage<Vendor> byDistance(
+      Specification<Vendor> spec, Map<Long, Double> distances, VendorCursor after, int limit) {
+    Comparator<Map.Entry<Long, Double>> order =
+        Map.Entry.<Long, Double>comparingByValue().thenComparing(Map.Entry.comparingByKey());
+    List<Long> candidates =
+        distances.entrySet().stream()
+            .sorted(order)
+            .filter(
+                entry ->
+                    after == null
+                        || order.compare(entry, Map.entry(after.id(), (Double) after.key())) > 0)
+            .map(Map.Entry::getKey)
+            .toList();
+    List<Vendor> page = new ArrayList<>(limit + 1);
+    int chunkSize = Math.max(limit * 2, 50);
+    for (int from = 0; from < candidates.size() && page.size() <= limit; from += chunkSize) {
+      List<Long> chunk = candidates.subList(from, Math.min(from + chunkSize, candidates.size()));
+      Map<Long, Vendor> matches =
+          vendorRepository.findAll(and(spec, VendorSpecifications.idIn(chunk))).stream()
+              .collect(Collectors.toMap(Vendor::getId, Function.identity()));
+      for (Long id : chunk) {
+        Vendor vendor = matches.get(id);
+        if (vendor != null && page.size() <= limit) {
+          page.add(vendor);
+        }
+      }
+    }
+    if (page.size() <= limit) {
+      return new CursorPage<>(page, null);
+    }
+    Vendor last = page.get(limit - 1);
+    return new CursorPage<>(
+        List.copyOf(page.subList(0, limit)),
+        new VendorCursor(VendorSort.DISTANCE, distances.get(last.getId()), last.getId()).encode());
+  }
+
+  private List<Vendor> fetch(Specification<Vendor> spec, Sort sort, int limit) {
+    return vendorRepository.findBy(spec, query -> query.sortBy(sort).limit(limit).all());
+  }
+
+  private static Specification<Vendor> and(Specification<Vendor> spec, Specification<Vendor> other) {
+    if (other == null) {
+      return spec;
+    }
+    return spec == null ? Specification.where(other) : spec.and(other);
+  }
+
+  private static Long idOf(VendorCursor cursor) {
+    return cursor != null ? cursor.id() : null;
   }
 
+  public List<Vendor> textSearch(String query, int limit) {
+    List<Long> ranked = searchIndex.search(query, limit);
+    Map<Long, Vendor> vendors =
+        vendorRepository.findAllById(ranked).stream()
+            .collect(Collectors.toMap(Vendor::getId, Function.identity()));
+    return ranked.stream().map(vendors::get).filter(Objects::nonNull).toList();
+  }
+
+  public List<ServiceCategory> categories() {
+    return categoryRepository.findAll(Sort.by("name"));
+  }
+
+  public List<Suggestion> suggest(String query, int limit) {
+    return autocompleteIndex.suggest(query, limit);
+  }
+
+  /**
+   * Concurrent lookups of the same vendor share one query. The result may be handed to several
+   * callers at once, so it must be treated as read-only; writers in this class use {@link #load}.
+   */
+  @Transactional(Transactional.TxType.SUPPORTS)
   public Vendor getById(Long id) {
+    return singleFlight.execute("vendor.getById", id, () -> load(id));
+  }
+
+  private Vendor load(Long id) {
     return vendorRepository
         .findById(id)
         .orElseThrow(() -> new ResourceNotFoundException("Vendor not found"));
   }
 
+  /** Cached read for public profile views; callers must not modify the returned vendor. */
+  @Transactional(Transactional.TxType.SUPPORTS)
+  public Vendor profile(Long id) {
+    return profileCache.profile(id, this::getById);
+  }
+
   public Vendor create(Vendor vendor) {
     vendor.setVerified(false);
-    return vendorRepository.save(vendor);
+    Vendor saved = vendorRepository.save(vendor);
+    eventPublisher.publishEvent(VendorChangedEvent.updated(saved.getId()));
+    return saved;
   }
 
   public Vendor update(Long id, Vendor payload) {
-    Vendor existing = getById(id);
+    Vendor existing = load(id);
     existing.setName(payload.getName());
     existing.setDescription(payload.getDescription());
     existing.setLocation(payload.getLocation());
+    existing.setLatitude(payload.getLatitude());
+    existing.setLongitude(payload.getLongitude());
     existing.setStartingPrice(payload.getStartingPrice());
+    eventPublisher.publishEvent(VendorChangedEvent.updated(id));
     return existing;
   }
 
   public void delete(Long id) {
     vendorRepository.deleteById(id);
+    tombstones.record(SyncEntity.VENDOR, id, null);
+    intervalIndex.evict(id);
+    eventPublisher.publishEvent(VendorChangedEvent.deleted(id));
   }
 
+  public ChangeStamp offeringsChangeStamp(Long vendorId) {
+    return offeringRepository.changeStampByVendorId(vendorId);
+  }
+
+  @Transactional(Transactional.TxType.SUPPORTS)
   public List<ServiceOffering> offerings(Long vendorId) {
-    return offeringRepository.findByVendorId(vendorId);
+    return profileCache.offerings(vendorId, offeringRepository::findByVendorId);
   }
 
   public ServiceOffering createOffering(Long vendorId, ServiceOffering offering) {
-    Vendor vendor = getById(vendorId);
+    Vendor vendor = load(vendorId);
     if (offering.getCategory() != null && offering.getCategory().getId() != null) {
       var category =
           categoryRepository
@@ -64,11 +251,13 @@ public class VendorService {
       offering.setCategory(category);
     }
     offering.setVendor(vendor);
-    return offeringRepository.save(offering);
+    ServiceOffering saved = offeringRepository.save(offering);
+    eventPublisher.publishEvent(VendorChangedEvent.updated(vendorId));
+    return saved;
   }
 
   public ServiceOffering updateOffering(Long vendorId, Long offeringId, ServiceOffering payload) {
-    Vendor vendor = getById(vendorId);
+    Vendor vendor = load(vendorId);
     ServiceOffering existing =
         offeringRepository
             .findById(offeringId)
@@ -86,59 +275,98 @@ public class VendorService {
               .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
       existing.setCategory(category);
     }
+    eventPublisher.publishEvent(VendorChangedEvent.updated(vendorId));
     return existing;
   }
 
   public void deleteOffering(Long vendorId, Long offeringId) {
-    Vendor vendor = getById(vendorId);
+    Vendor vendor = load(vendorId);
     ServiceOffering existing =
         offeringRepository
             .findById(offeringId)
             .filter(offering -> offering.getVendor().getId().equals(vendor.getId()))
             .orElseThrow(() -> new ResourceNotFoundException("Service offering not found"));
     offeringRepository.delete(existing);
+    eventPublisher.publishEvent(VendorChangedEvent.updated(vendorId));
   }
 
-  public Double rating(Long vendorId) {
-    return reviewRepository.calculateAverageRating(vendorId);
+  @Transactional(Transactional.TxType.SUPPORTS)
+  public VendorRating rating(Long vendorId) {
+    return singleFlight.execute("vendor.rating", vendorId, () -> reviewService.summary(vendorId));
   }
 
+  @Transactional(Transactional.TxType.SUPPORTS)
   public Map<String, Boolean> availability(Long vendorId, OffsetDateTime start, OffsetDateTime end) {
-    boolean conflict = bookingRepository.existsConflictingBooking(vendorId, start, end);
-    return Map.of("available", !conflict);
+    return singleFlight.execute(
+        "vendor.availability",
+        List.of(vendorId, start.toInstant(), end.toInstant()),
+        () -> Map.of("available", !intervalIndex.overlaps(vendorId, start, end)));
   }
 
-  public Map<String, Object> calendarSnapshot(Long vendorId, OffsetDateTime start, OffsetDateTime end) {
-    List<Map<String, Object>> bookings =
-        bookingRepository.findByVendorId(vendorId).stream()
-            .filter(b ->
-                (b.getStartTime().isBefore(end) && b.getEndTime().isAfter(start)))
-            .map(
-                b -> {
-                  Map<String, Object> event = new HashMap<>();
-                  event.put("bookingId", b.getId());
-                  event.put("start", b.getStartTime().toString());
-                  event.put("end", b.getEndTime().toString());
-                  event.put("status", b.getStatus().name());
-                  return event;
-                })
-            .collect(Collectors.toList());
-    return Map.of("events", bookings);
+  public List<TimeWindow> freeSlots(
+      Long vendorId, OffsetDateTime from, OffsetDateTime to, Duration duration, int limit) {
+    load(vendorId);
+    ZoneOffset offset = from.getOffset();
+    List<TimeWindow> busy = new ArrayList<>();
+    bookingRepository
+        .findActiveSlotsInRange(vendorId, from, to)
+        .forEach(slot -> busy.add(new TimeWindow(slot.startTime(), slot.endTime())));
+    scheduleRepository
+        .findInRange(
+            vendorId,
+            from.atZoneSameInstant(ZoneOffset.UTC).toLocalDate(),
+            to.atZoneSameInstant(ZoneOffset.UTC).toLocalDate())
+        .forEach(
+            block ->
+                busy.add(
+                    new TimeWindow(
+                        block.getStartDate().atStartOfDay().atOffset(ZoneOffset.UTC),
+                        block.getEndDate().plusDays(1).atStartOfDay().atOffset(ZoneOffset.UTC))));
+    busy.sort(Comparator.comparing(TimeWindow::start));
+
+    List<TimeWindow> free = new ArrayList<>();
+    OffsetDateTime cursor = from;
+    for (TimeWindow interval : busy) {
+      if (free.size() >= limit || !cursor.isBefore(to)) {
+        break;
+      }
+      OffsetDateTime gapEnd = interval.start().isBefore(to) ? interval.start() : to;
+      fillGap(free, cursor, gapEnd, duration, limit);
+      if (interval.end().isAfter(cursor)) {
+        cursor = interval.end().withOffsetSameInstant(offset);
+      }
+    }
+    fillGap(free, cursor, to, duration, limit);
+    return free;
+  }
+
+  private void fillGap(
+      List<TimeWindow> free, OffsetDateTime gapStart, OffsetDateTime gapEnd, Duration duration, int limit) {
+    for (OffsetDateTime slotStart = gapStart;
+        free.size() < limit && !slotStart.plus(duration).isAfter(gapEnd);
+        slotStart = slotStart.plus(duration)) {
+      free.add(new TimeWindow(slotStart, slotStart.plus(duration)));
+    }
   }
 
   public Vendor verify(Long vendorId) {
-    Vendor vendor = getById(vendorId);
+    Vendor vendor = load(vendorId);
     vendor.setVerified(true);
+    eventPublisher.publishEvent(VendorChangedEvent.updated(vendorId));
     return vendor;
   }
 
+  public ChangeStamp scheduleChangeStamp(Long vendorId) {
+    return scheduleRepository.changeStampByVendorId(vendorId);
+  }
+
   public List<VendorScheduleBlock> schedule(Long vendorId) {
-    getById(vendorId);
+    load(vendorId);
     return scheduleRepository.findByVendorIdOrderByStartDateAsc(vendorId);
   }
 
   public List<VendorScheduleBlock> updateSchedule(Long vendorId, List<VendorScheduleBlock> blocks) {
-    Vendor vendor = getById(vendorId);
+    Vendor vendor = load(vendorId);
     scheduleRepository.deleteByVendorId(vendor.getId());
     List<VendorScheduleBlock> prepared =
         blocks.stream()
@@ -152,6 +380,13 @@ public class VendorService {
                   return entity;
                 })
             .toList();
-    return scheduleRepository.saveAll(prepared);
+    List<VendorScheduleBlock> saved = scheduleRepository.saveAll(prepared);
+    eventPublisher.publishEvent(
+        new VendorScheduleChangedEvent(
+            vendor.getId(),
+            saved.stream()
+                .map(block -> new ScheduleBlockSpan(vendor.getId(), block.getStartDate(), block.getEndDate()))
+                .toList()));
+    return saved;
   }
 }
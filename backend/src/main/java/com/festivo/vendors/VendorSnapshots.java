@@ -0,0 +1,53 @@
+package com.festivo.vendors;
+
+import com.festivo.common.web.JsonSnapshot;
+import com.festivo.common.web.JsonSnapshotStore;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Snapshot keys for the vendor catalog, vendor profiles and the category list. Catalog pages mix
+ * many vendors, so any vendor change drops all of them; a profile only drops with its own vendor,
+ * and the category list with any category change. Runs after {@link VendorProfileCache} has
+ * evicted, so a rebuild never reads a stale profile.
+ */
+@Component
+@RequiredArgsConstructor
+public class VendorSnapshots {
+  private static final String CATALOG = "vendors:catalog:";
+  private static final String PROFILE = "vendors:profile:";
+  private static final String CATEGORIES = "vendors:categories";
+
+  private final JsonSnapshotStore store;
+
+  public JsonSnapshot catalog(String query, Supplier<?> source) {
+    return store.get(CATALOG + query, source);
+  }
+
+  public JsonSnapshot profile(Long vendorId, Supplier<?> source) {
+    return store.get(PROFILE + vendorId, source);
+  }
+
+  public JsonSnapshot categories(Supplier<?> source) {
+    return store.get(CATEGORIES, source);
+  }
+
+  public JsonSnapshot render(Object value) {
+    return store.render(value);
+  }
+
+  @Order(VendorProfileCache.EVICTION_ORDER + 1)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onVendorChanged(VendorChangedEvent event) {
+    store.invalidate(PROFILE + event.vendorId());
+    store.invalidatePrefix(CATALOG);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onCategoryChanged(CategoryChangedEvent event) {
+    store.invalidate(CATEGORIES);
+  }
+}
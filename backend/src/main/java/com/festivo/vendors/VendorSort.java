@@ -0,0 +1,52 @@
+package com.festivo.vendors;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.function.Function;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Sort orders for the vendor listing. Each keyed order is paired with the vendor id as a tie-break
+ * so that every row has a unique position and a cursor can resume exactly after it.
+ */
+public enum VendorSort {
+  /** Precomputed ranking score; the default listing order. */
+  RANKING("rankingScore", Sort.Direction.DESC, Double::valueOf),
+  RATING("rating", Sort.Direction.DESC, Double::valueOf),
+  PRICE("startingPrice", Sort.Direction.ASC, BigDecimal::new),
+  NEWEST("createdAt", Sort.Direction.DESC, Instant::parse),
+  /** Nearest first; only valid together with a geo filter and ordered in memory. */
+  DISTANCE(null, Sort.Direction.ASC, Double::valueOf);
+
+  private final String property;
+  private final Sort.Direction direction;
+  private final Function<String, Comparable<?>> parser;
+
+  VendorSort(String property, Sort.Direction direction, Function<String, Comparable<?>> parser) {
+    this.property = property;
+    this.direction = direction;
+    this.parser = parser;
+  }
+
+  public String property() {
+    return property;
+  }
+
+  public Sort.Direction direction() {
+    return direction;
+  }
+
+  Comparable<?> parseKey(String key) {
+    return parser.apply(key);
+  }
+
+  Comparable<?> keyOf(Vendor vendor) {
+    return switch (this) {
+      case RANKING -> vendor.getRankingScore();
+      case RATING -> vendor.getRating();
+      case PRICE -> vendor.getStartingPrice();
+      case NEWEST -> vendor.getCreatedAt();
+      case DISTANCE -> throw new IllegalStateException("Distance is not a vendor column");
+    };
+  }
+}
@@ -0,0 +1,83 @@
+package com.festivo.vendors;
+
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Subquery;
+import java.util.Collection;
+import java.util.Optional;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class VendorSpecifications {
+  private VendorSpecifications() {}
+
+  public static Specification<Vendor> inCategory(Long categoryId) {
+    return Optional.ofNullable(categoryId)
+        .map(
+            id ->
+                (Specification<Vendor>)
+                    (root, query, cb) -> {
+                      Subquery<Long> offerings = query.subquery(Long.class);
+                      var offering = offerings.from(ServiceOffering.class);
+                      offerings
+                          .select(offering.get("id"))
+                          .where(
+                              cb.equal(offering.get("vendor"), root),
+                              cb.equal(offering.get("category").get("id"), id));
+                      return cb.exists(offerings);
+                    })
+        .orElse(null);
+  }
+
+  public static Specification<Vendor> minRating(Double minRating) {
+    return Optional.ofNullable(minRating)
+        .map(rating -> (Specification<Vendor>) (root, query, cb) -> cb.ge(root.get("rating"), rating))
+        .orElse(null);
+  }
+
+  public static Specification<Vendor> idIn(Collection<Long> ids) {
+    return (root, query, cb) -> root.get("id").in(ids);
+  }
+
+  public static Specification<Vendor> idNotIn(Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return null;
+    }
+    return (root, query, cb) -> cb.not(root.get("id").in(ids));
+  }
+
+  /**
+   * Rows with a non-null sort key that come strictly after {@code (key, id)} in the sort's order,
+   * or every such row when {@code key} is null. Written as {@code k < ? OR (k = ? AND id < ?)} so
+   * that the {@code (column, id)} index of each sort on {@link Vendor} serves it as a range scan.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public static Specification<Vendor> keyedAfter(VendorSort sort, Comparable key, Long id) {
+    return (root, query, cb) -> {
+      Expression<Comparable> column = root.get(sort.property());
+      if (key == null) {
+        return cb.isNotNull(column);
+      }
+      boolean descending = sort.direction() == Sort.Direction.DESC;
+      Expression<Long> vendorId = root.get("id");
+      return cb.or(
+          descending ? cb.lessThan(column, key) : cb.greaterThan(column, key),
+          cb.and(
+              cb.equal(column, key),
+              descending ? cb.lessThan(vendorId, id) : cb.greaterThan(vendorId, id)));
+    };
+  }
+
+  /** Rows whose sort key is null, positioned after {@code id} when one is given. */
+  public static Specification<Vendor> unkeyedAfter(VendorSort sort, Long id) {
+    return (root, query, cb) -> {
+      var missing = cb.isNull(root.get(sort.property()));
+      if (id == null) {
+        return missing;
+      }
+      Expression<Long> vendorId = root.get("id");
+      return cb.and(
+          missing,
+          sort.direction() == Sort.Direction.DESC ? cb.lessThan(vendorId, id) : cb.greaterThan(vendorId, id));
+    };
+  }
+}
@@ -46,7 +46,12 @@ type Vendor = {
   name: string;
 };
 
-const bookingStatuses = ['PENDING', 'CONFIRMED', 'COMPLETED', 'CANCELLED'];
+type VendorPage = {
+  content: Vendor[];
+  nextCursor: string | null;
+};
+
+const bookingStatuses = ['HELD', 'PENDING', 'CONFIRMED', 'COMPLETED', 'CANCELLED', 'EXPIRED'];
 
 export const AdminBookingsPage: React.FC = () => {
   const [status, setStatus] = useState('');
@@ -60,8 +65,16 @@ export const AdminBookingsPage: React.FC = () => {
   const vendorsQuery = useQuery({
     queryKey: ['admin', 'vendors'],
     queryFn: async () => {
-      const response = await apiClient.get<Vendor[]>('/api/vendors');
-      return response.data;
+      const vendors: Vendor[] = [];
+      let cursor: string | null = null;
+      do {
+        const response = await apiClient.get<VendorPage>('/api/vendors', {
+          params: { limit: 100, cursor: cursor ?? undefined }
+        });
+        vendors.push(...response.data.content);
+        cursor = response.data.nextCursor;
+      } while (cursor);
+      return vendors;
     }
   });
 
@@ -176,7 +189,7 @@ export const AdminBookingsPage: React.FC = () => {
                       size="sm"
                       variant="ghost"
                       onClick={() => cancelMutation.mutate(booking.id)}
-                      isDisabled={booking.status === 'CANCELLED'}
+                      isDisabled={booking.status === 'CANCELLED' || booking.status === 'EXPIRED'}
                     >
                       Cancel
                     </Button>
@@ -1,5 +1,5 @@
 import React, { useState } from 'react';
-import { useQuery } from '@tanstack/react-query';
+import { useInfiniteQuery } from '@tanstack/react-query';
 import { apiClient } from '../../shared/api/client';
 import { CenteredSpinner } from '../../shared/components/CenteredSpinner';
 import { Link } from 'react-router-dom';
@@ -13,20 +13,29 @@ type Vendor = {
   startingPrice?: number;
 };
 
+type VendorPage = {
+  content: Vendor[];
+  nextCursor: string | null;
+};
+
 export const VendorSearchPage: React.FC = () => {
   const [filters, setFilters] = useState({ categoryId: '', minRating: '' });
-  const { data, isLoading, refetch } = useQuery({
+  const { data, isLoading, refetch, fetchNextPage, hasNextPage, isFetchingNextPage } = useInfiniteQuery({
     queryKey: ['vendors', filters],
-    queryFn: async () => {
-      const response = await apiClient.get<Vendor[]>('/api/vendors', {
+    queryFn: async ({ pageParam }) => {
+      const response = await apiClient.get<VendorPage>('/api/vendors', {
         params: {
           categoryId: filters.categoryId || undefined,
-          minRating: filters.minRating || undefined
+          minRating: filters.minRating || undefined,
+          cursor: pageParam ?? undefined
         }
       });
       return response.data;
-    }
+    },
+    initialPageParam: null as string | null,
+    getNextPageParam: (lastPage) => lastPage.nextCursor
   });
+  const vendors = data?.pages.flatMap((page) => page.content);
 
   const handleSubmit = (event: React.FormEvent) => {
     event.preventDefault();
@@ -67,7 +76,7 @@ export const VendorSearchPage: React.FC = () => {
       {isLoading && <CenteredSpinner label="Loading vendors" />}
       {!isLoading && (
         <div style={{ display: 'grid', gap: '1rem' }}>
-          {data?.map((vendor) => (
+          {vendors?.map((vendor) => (
             <article key={vendor.id} style={{ backgroundColor: 'white', padding: '1.5rem', borderRadius: '1rem', boxShadow: '0 10px 30px rgba(15,23,42,0.05)' }}>
               <h3 style={{ marginBottom: '0.25rem', fontSize: '1.25rem' }}>{vendor.name}</h3>
               <p style={{ color: '#475569', marginBottom: '0.5rem' }}>{vendor.description ?? 'No description yet.'}</p>
@@ -81,7 +90,17 @@ export const VendorSearchPage: React.FC = () => {
               </Link>
             </article>
           ))}
-          {data?.length === 0 && <div>No vendors match your filters.</div>}
+          {vendors?.length === 0 && <div>No vendors match your filters.</div>}
+          {hasNextPage && (
+            <button
+              type="button"
+              onClick={() => fetchNextPage()}
+              disabled={isFetchingNextPage}
+              style={{ justifySelf: 'center', backgroundColor: 'white', color: '#2563eb', border: '1px solid #2563eb', borderRadius: '0.5rem', padding: '0.75rem 1.5rem', cursor: 'pointer' }}
+            >
+              {isFetchingNextPage ? 'Loading…' : 'Load more vendors'}
+            </button>
+          )}
         </div>
       )}
     </div>
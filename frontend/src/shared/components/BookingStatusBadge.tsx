@@ -0,0 +1,14 @@
+import React from 'react';
+import { Badge } from '@chakra-ui/react';
+
+const statusColors: Record<string, string> = {
+  HELD: 'orange',
+  PENDING: 'yellow',
+  CONFIRMED: 'green',
+  CANCELLED: 'red',
+  EXPIRED: 'gray'
+};
+
+export const BookingStatusBadge: React.FC<{ status: string }> = ({ status }) => (
+  <Badge colorScheme={statusColors[status] ?? 'blue'}>{status.toLowerCase()}</Badge>
+);
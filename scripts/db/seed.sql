@@ -4,8 +4,8 @@ USE festivo;
 
 CREATE TABLE IF NOT EXISTS users (
   id BIGINT PRIMARY KEY AUTO_INCREMENT,
-  created_at TIMESTAMP NULL,
-  updated_at TIMESTAMP NULL,
+  created_at TIMESTAMP(6) NULL,
+  updated_at TIMESTAMP(6) NULL,
   external_id VARCHAR(255) UNIQUE NOT NULL,
   email VARCHAR(255) UNIQUE NOT NULL,
   display_name VARCHAR(255) NOT NULL,
@@ -15,8 +15,8 @@ CREATE TABLE IF NOT EXISTS users (
 
 CREATE TABLE IF NOT EXISTS customers (
   id BIGINT PRIMARY KEY AUTO_INCREMENT,
-  created_at TIMESTAMP NULL,
-  updated_at TIMESTAMP NULL,
+  created_at TIMESTAMP(6) NULL,
+  updated_at TIMESTAMP(6) NULL,
   user_id BIGINT NOT NULL UNIQUE,
   address VARCHAR(255),
   phone_number VARCHAR(32),
@@ -25,8 +25,8 @@ CREATE TABLE IF NOT EXISTS customers (
 
 CREATE TABLE IF NOT EXISTS vendors (
   id BIGINT PRIMARY KEY AUTO_INCREMENT,
-  created_at TIMESTAMP NULL,
-  updated_at TIMESTAMP NULL,
+  created_at TIMESTAMP(6) NULL,
+  updated_at TIMESTAMP(6) NULL,
   name VARCHAR(255) NOT NULL,
   description TEXT,
   location VARCHAR(255),
@@ -39,16 +39,16 @@ CREATE TABLE IF NOT EXISTS vendors (
 
 CREATE TABLE IF NOT EXISTS service_categories (
   id BIGINT PRIMARY KEY AUTO_INCREMENT,
-  created_at TIMESTAMP NULL,
-  updated_at TIMESTAMP NULL,
+  created_at TIMESTAMP(6) NULL,
+  updated_at TIMESTAMP(6) NULL,
   name VARCHAR(255) UNIQUE NOT NULL,
   description TEXT
 );
 
 CREATE TABLE IF NOT EXISTS services (
   id BIGINT PRIMARY KEY AUTO_INCREMENT,
-  created_at TIMESTAMP NULL,
-  updated_at TIMESTAMP NULL,
+  created_at TIMESTAMP(6) NULL,
+  updated_at TIMESTAMP(6) NULL,
   vendor_id BIGINT,
   category_id BIGINT,
   title VARCHAR(255) NOT NULL,
@@ -61,8 +61,8 @@ CREATE TABLE IF NOT EXISTS services (
 
 CREATE TABLE IF NOT EXISTS events (
   id BIGINT PRIMARY KEY AUTO_INCREMENT,
-  created_at TIMESTAMP NULL,
-  updated_at TIMESTAMP NULL,
+  created_at TIMESTAMP(6) NULL,
+  updated_at TIMESTAMP(6) NULL,
   customer_id BIGINT NOT NULL,
   name VARCHAR(255) NOT NULL,
   description TEXT,
@@ -72,20 +72,22 @@ CREATE TABLE IF NOT EXISTS events (
 
 CREATE TABLE IF NOT EXISTS bookings (
   id BIGINT PRIMARY KEY AUTO_INCREMENT,
-  created_at TIMESTAMP NULL,
-  updated_at TIMESTAMP NULL,
+  created_at TIMESTAMP(6) NULL,
+  updated_at TIMESTAMP(6) NULL,
   vendor_id BIGINT,
   service_id BIGINT,
   event_id BIGINT,
   start_time DATETIME NOT NULL,
   end_time DATETIME NOT NULL,
   status VARCHAR(32) NOT NULL,
+  hold_expires_at TIMESTAMP NULL,
+  slot_release BIGINT NOT NULL DEFAULT 0,
   total_amount DECIMAL(10,2) NOT NULL,
   deposit_amount DECIMAL(10,2),
   currency VARCHAR(12) NOT NULL,
   notes TEXT,
   timezone VARCHAR(64) NOT NULL,
-  CONSTRAINT uk_booking_vendor_slot UNIQUE (vendor_id, start_time, end_time),
+  CONSTRAINT uk_booking_vendor_slot UNIQUE (vendor_id, start_time, end_time, slot_release),
   CONSTRAINT fk_booking_vendor FOREIGN KEY (vendor_id) REFERENCES vendors(id),
   CONSTRAINT fk_booking_service FOREIGN KEY (service_id) REFERENCES services(id),
   CONSTRAINT fk_booking_event FOREIGN KEY (event_id) REFERENCES events(id)
@@ -93,8 +95,8 @@ CREATE TABLE IF NOT EXISTS bookings (
 
 CREATE TABLE IF NOT EXISTS payments (
   id BIGINT PRIMARY KEY AUTO_INCREMENT,
-  created_at TIMESTAMP NULL,
-  updated_at TIMESTAMP NULL,
+  created_at TIMESTAMP(6) NULL,
+  updated_at TIMESTAMP(6) NULL,
   booking_id BIGINT,
   provider VARCHAR(64) NOT NULL,
   provider_reference VARCHAR(255) NOT NULL,
@@ -108,8 +110,8 @@ CREATE TABLE IF NOT EXISTS payments (
 
 CREATE TABLE IF NOT EXISTS messages (
   id BIGINT PRIMARY KEY AUTO_INCREMENT,
-  created_at TIMESTAMP NULL,
-  updated_at TIMESTAMP NULL,
+  created_at TIMESTAMP(6) NULL,
+  updated_at TIMESTAMP(6) NULL,
   booking_id BIGINT,
   sender_id BIGINT,
   content TEXT NOT NULL,